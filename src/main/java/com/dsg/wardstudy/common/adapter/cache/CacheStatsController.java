@@ -0,0 +1,25 @@
+package com.dsg.wardstudy.common.adapter.cache;
+
+import com.dsg.wardstudy.config.redis.LayeredCacheManager;
+import com.dsg.wardstudy.config.redis.LayeredCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final LayeredCacheManager layeredCacheManager;
+
+    // 캐시별 hit/miss 현황 (해당 인스턴스 기준)
+    @GetMapping("/stats")
+    public ResponseEntity<List<LayeredCacheStats>> getStats() {
+        return ResponseEntity.ok(layeredCacheManager.getStats());
+    }
+}
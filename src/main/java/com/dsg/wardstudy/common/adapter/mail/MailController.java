@@ -1,6 +1,7 @@
 package com.dsg.wardstudy.common.adapter.mail;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -8,11 +9,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MailController {
     private final MailSendService mailSendService;
+    private final MailDispatcher mailDispatcher;
 
     @GetMapping("/mail/send")
     public void sendMail(String email) {
 
-        mailSendService.sendMail("ehtjd33@gmail.com", "제목입니다.", "테스트입니다.");
+        mailSendService.sendMailAsync("ehtjd33@gmail.com", "제목입니다.", "테스트입니다.");
 
     }
+
+    // 메일 발송 현황 (해당 인스턴스 기준)
+    @GetMapping("/mail/stats")
+    public ResponseEntity<MailDispatcherStats> getStats() {
+        return ResponseEntity.ok(mailDispatcher.getStats());
+    }
 }
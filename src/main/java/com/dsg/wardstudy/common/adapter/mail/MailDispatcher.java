@@ -0,0 +1,274 @@
+package com.dsg.wardstudy.common.adapter.mail;
+
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 메일 발송기
+ * 요청은 bounded queue 에 넣고 바로 반환(CompletableFuture)하며, 워커가 큐에서 여러 통을 꺼내
+ * JavaMailSender.send(MimeMessage...) 로 SMTP 연결 하나에 묶어서 보낸다.
+ * 큐가 가득 차면 offerTimeout 만큼 호출자를 기다리게 하고(backpressure), 그래도 자리가 없으면 거절한다.
+ * 발송 실패분은 backoff(2배씩 증가) 후 maxAttempts 까지 다시 큐에 넣는다.
+ */
+@Log4j2
+public class MailDispatcher {
+
+    private static final long POLL_MILLIS = 200L;
+
+    private final JavaMailSender mailSender;
+    private final BlockingQueue<MailTask> queue;
+    private final int workers;
+    private final int maxBatch;
+    private final long offerTimeoutMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService retryScheduler;
+    // backoff 대기 중인 메일 (종료 시 실패 처리)
+    private final Set<MailTask> pendingRetries = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    // 요청 ~ 발송 완료까지 걸린 시간 (큐 대기 포함)
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0L);
+
+    @Builder
+    public MailDispatcher(JavaMailSender mailSender, int workers, int queueCapacity, int maxBatch,
+                          long offerTimeoutMillis, int maxAttempts, long backoffMillis) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.maxBatch = maxBatch;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.workerPool = Executors.newFixedThreadPool(workers, namedThreadFactory("mail-worker-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("mail-retry-"));
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::runWorker);
+        }
+        log.info("mailDispatcher started, workers: {}, queueCapacity: {}", workers, queue.remainingCapacity());
+    }
+
+    // 큐에 남은 메일은 보내고 종료
+    public void shutdown() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        MailTask task;
+        while ((task = queue.poll()) != null) {
+            fail(task, new RejectedExecutionException("mailDispatcher shut down"));
+        }
+        pendingRetries.forEach(retry -> fail(retry, new RejectedExecutionException("mailDispatcher shut down")));
+        pendingRetries.clear();
+    }
+
+    /**
+     * 메일 발송 요청
+     * @return 발송 결과 (true: 발송 완료, false: 재시도 후에도 실패), 큐가 가득 차면 RejectedExecutionException
+     */
+    public CompletableFuture<Boolean> dispatch(String to, String subject, String html) {
+        MailTask task = new MailTask(to, subject, html);
+        submitted.increment();
+        try {
+            if (!queue.offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                task.future.completeExceptionally(new RejectedExecutionException("mail queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            task.future.completeExceptionally(e);
+        }
+        return task.future;
+    }
+
+    public MailDispatcherStats getStats() {
+        long sentCount = sent.sum();
+        return MailDispatcherStats.builder()
+                .submitted(submitted.sum())
+                .sent(sentCount)
+                .failed(failed.sum())
+                .retried(retried.sum())
+                .rejected(rejected.sum())
+                .batches(batches.sum())
+                .queueSize(queue.size())
+                .avgLatencyMillis(sentCount == 0 ? 0.0 : latencyNanos.sum() / 1_000_000.0 / sentCount)
+                .maxLatencyMillis(maxLatencyNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    private void runWorker() {
+        List<MailTask> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                MailTask first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("mailDispatcher worker error", e);
+                batch.forEach(task -> fail(task, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<MailTask> batch) {
+        Map<MimeMessage, MailTask> tasks = new IdentityHashMap<>();
+        for (MailTask task : batch) {
+            try {
+                tasks.put(task.toMimeMessage(mailSender), task);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 재시도해도 실패하므로 바로 실패 처리
+                log.error("mail message 생성 실패, to: {}", task.to, e);
+                fail(task, e);
+            }
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages = new IdentityHashMap<>();
+        try {
+            // 연결 한 번으로 여러 통 전송
+            mailSender.send(tasks.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages.putAll(e.getFailedMessages());
+            if (failedMessages.isEmpty()) {
+                tasks.keySet().forEach(message -> failedMessages.put(message, e));
+            }
+        } catch (MailException e) {
+            tasks.keySet().forEach(message -> failedMessages.put(message, e));
+        }
+        batches.increment();
+
+        long now = System.nanoTime();
+        tasks.forEach((message, task) -> {
+            Exception cause = failedMessages.get(message);
+            if (cause == null) {
+                long latency = now - task.enqueuedNanos;
+                sent.increment();
+                latencyNanos.add(latency);
+                maxLatencyNanos.accumulate(latency);
+                task.future.complete(true);
+            } else {
+                retryOrFail(task, cause);
+            }
+        });
+    }
+
+    private void retryOrFail(MailTask task, Exception cause) {
+        if (task.attempts.incrementAndGet() >= maxAttempts || !running) {
+            log.error("mail 발송 실패, to: {}, attempts: {}", task.to, task.attempts.get(), cause);
+            fail(task, cause);
+            return;
+        }
+        retried.increment();
+        long delay = backoffMillis << (task.attempts.get() - 1);
+        log.warn("mail 발송 재시도 예정, to: {}, attempts: {}, delayMillis: {}", task.to, task.attempts.get(), delay);
+        pendingRetries.add(task);
+        try {
+            retryScheduler.schedule(() -> {
+                pendingRetries.remove(task);
+                if (!queue.offer(task)) {
+                    fail(task, new RejectedExecutionException("mail queue is full"));
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingRetries.remove(task);
+            fail(task, e);
+        }
+    }
+
+    private void fail(MailTask task, Exception cause) {
+        failed.increment();
+        log.debug("mail task failed, to: {}, cause: {}", task.to, cause.getMessage());
+        task.future.complete(false);
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class MailTask {
+
+        private final String to;
+        private final String subject;
+        private final String html;
+        private final long enqueuedNanos = System.nanoTime();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        MailTask(String to, String subject, String html) {
+            this.to = to;
+            this.subject = subject;
+            this.html = html;
+        }
+
+        MimeMessage toMimeMessage(JavaMailSender mailSender) throws MessagingException {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            mimeMessageHelper.setTo(to);
+            mimeMessageHelper.setSubject(subject);
+            mimeMessageHelper.setText(html, true);
+            return mimeMessage;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dsg.wardstudy.common.adapter.mail;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 메일 발송 현황 (인스턴스 기동 이후 누적)
+ * latency : 발송 요청 ~ 발송 완료 (큐 대기 포함)
+ */
+@Getter
+@ToString
+public class MailDispatcherStats {
+
+    private final long submitted;
+    private final long sent;
+    private final long failed;
+    private final long retried;
+    private final long rejected;
+    private final long batches;
+    private final int queueSize;
+    private final double avgLatencyMillis;
+    private final double maxLatencyMillis;
+
+    @Builder
+    public MailDispatcherStats(long submitted, long sent, long failed, long retried, long rejected, long batches,
+                               int queueSize, double avgLatencyMillis, double maxLatencyMillis) {
+        this.submitted = submitted;
+        this.sent = sent;
+        this.failed = failed;
+        this.retried = retried;
+        this.rejected = rejected;
+        this.batches = batches;
+        this.queueSize = queueSize;
+        this.avgLatencyMillis = avgLatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+}
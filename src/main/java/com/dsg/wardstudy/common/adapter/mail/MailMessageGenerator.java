@@ -1,44 +1,145 @@
 package com.dsg.wardstudy.common.adapter.mail;
 
-import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationOutboxMessage;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+/**
+ * 알림 메일 본문 생성
+ * 템플릿은 클래스 로딩 시 한 번만 컴파일하고, 스레드별로 재사용하는 StringBuilder 에 렌더링한다.
+ * 입력은 조회해 둔 평면 DTO 만 쓰므로 렌더링 중 추가 쿼리(lazy loading)가 없다.
+ */
 @Component
 public class MailMessageGenerator {
 
-    public String toMessage(String userName, List<Reservation> reservations) {
-        return String.format(
-                "%s 님, ward-study 예약룸 알림 전달드립니다.\n", userName)
-                +
-                reservations.stream()
-                        .map(r -> String.format("<p>스터디그룹: %s, 스터디리더: %s 님</p>\n" +
-                                        "<p>룸: %s, 예약시간: %s [%s]~[%s] 으로 등록되었습니다! 😣</p>\n",
-                                r.getStudyGroup().getTitle(), r.getUser().getName(),
-                                r.getRoom().getName(),formatterStrYearMonthDay(r.getStartTime()),
-                                formatterStrTime(r.getStartTime()), formatterStrTime(r.getEndTime())))
-                        .collect(Collectors.joining());
+    private static final DateTimeFormatter YEAR_MONTH_DAY = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    // 재사용 버퍼가 이보다 커지면 버린다 (큰 digest 한 번으로 메모리를 계속 잡고 있지 않도록)
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private static final MailTemplate<String> DIGEST_HEADER = MailTemplate.compile(
+            "{{userName}} 님, ward-study 예약룸 알림 전달드립니다.\n",
+            Map.of("userName", MailTemplate.text(userName -> userName)));
+
+    private static final MailTemplate<ReservationAlarmItem> DIGEST_ITEM = MailTemplate.compile(
+            "<p>스터디그룹: {{studyGroupTitle}}, 스터디리더: {{registerName}} 님</p>\n" +
+                    "<p>룸: {{roomName}}, 예약시간: {{date}} [{{startTime}}]~[{{endTime}}] 으로 등록되었습니다! 😣</p>\n",
+            Map.of("studyGroupTitle", MailTemplate.text(ReservationAlarmItem::getStudyGroupTitle),
+                    "registerName", MailTemplate.text(ReservationAlarmItem::getRegisterName),
+                    "roomName", MailTemplate.text(ReservationAlarmItem::getRoomName),
+                    "date", MailTemplate.time(ReservationAlarmItem::getStartTime, YEAR_MONTH_DAY),
+                    "startTime", MailTemplate.time(ReservationAlarmItem::getStartTime, TIME),
+                    "endTime", MailTemplate.time(ReservationAlarmItem::getEndTime, TIME)));
+
+    private static final MailTemplate<ChangeNotice> CHANGE_NOTICE = MailTemplate.compile(
+            "{{userName}}님, ward-study 예약룸 알림 전달드립니다.\n" +
+                    "<p>스터디그룹: {{studyGroupTitle}}</p>\n" +
+                    "<p>룸: {{roomName}}, 예약시간: {{date}} [{{startTime}}]~[{{endTime}}] 예약이 {{label}}되었습니다! 😣</p>\n",
+            Map.of("userName", MailTemplate.text(ChangeNotice::getUserName),
+                    "studyGroupTitle", MailTemplate.text(ChangeNotice::getStudyGroupTitle),
+                    "roomName", MailTemplate.text(ChangeNotice::getRoomName),
+                    "date", MailTemplate.time(n -> n.getMessage().getStartTime(), YEAR_MONTH_DAY),
+                    "startTime", MailTemplate.time(n -> n.getMessage().getStartTime(), TIME),
+                    "endTime", MailTemplate.time(n -> n.getMessage().getEndTime(), TIME),
+                    "label", MailTemplate.text(n -> toLabel(n.getMessage().getEventType()))));
+
+    private static final MailTemplate<ChangeNotice> BULK_NOTICE = MailTemplate.compile(
+            "{{userName}}님, ward-study 예약룸 알림 전달드립니다.\n" +
+                    "<p>스터디그룹: {{studyGroupTitle}}</p>\n" +
+                    "<p>룸: {{roomName}}, 예약기간: {{startDate}} [{{startTime}}]~{{endDate}} [{{endTime}}] " +
+                    "예약 {{count}}건이 등록되었습니다! 😣</p>\n",
+            Map.of("userName", MailTemplate.text(ChangeNotice::getUserName),
+                    "studyGroupTitle", MailTemplate.text(ChangeNotice::getStudyGroupTitle),
+                    "roomName", MailTemplate.text(ChangeNotice::getRoomName),
+                    "startDate", MailTemplate.time(n -> n.getMessage().getStartTime(), YEAR_MONTH_DAY),
+                    "startTime", MailTemplate.time(n -> n.getMessage().getStartTime(), TIME),
+                    "endDate", MailTemplate.time(n -> n.getMessage().getEndTime(), YEAR_MONTH_DAY),
+                    "endTime", MailTemplate.time(n -> n.getMessage().getEndTime(), TIME),
+                    "count", MailTemplate.text(n -> String.valueOf(n.getMessage().getReservationIds().size()))));
+
+    // 수신자 1명의 예약 여러 건을 메일 1통으로
+    public String toMessage(String userName, List<ReservationAlarmItem> reservations) {
+        StringBuilder out = borrowBuffer();
+        DIGEST_HEADER.render(out, userName);
+        for (ReservationAlarmItem reservation : reservations) {
+            DIGEST_ITEM.render(out, reservation);
+        }
+        return release(out);
+    }
+
+    public String toKafkaMessage(String userName, ReservationOutboxMessage message, String studyGroupTitle, String roomName) {
+        StringBuilder out = borrowBuffer();
+        CHANGE_NOTICE.render(out, new ChangeNotice(userName, message, studyGroupTitle, roomName));
+        return release(out);
+    }
+
+    // 일괄 등록 알림 (예약 건수 + 전체 기간만 메일 1통으로)
+    public String toKafkaBulkMessage(String userName, ReservationOutboxMessage message, String studyGroupTitle, String roomName) {
+        StringBuilder out = borrowBuffer();
+        BULK_NOTICE.render(out, new ChangeNotice(userName, message, studyGroupTitle, roomName));
+        return release(out);
+    }
+
+    private static StringBuilder borrowBuffer() {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        return out;
     }
 
-    public String toKafkaMessage(String userName, Reservation reservation) {
-        return String.format("%s님, ward-study 예약룸 알림 전달드립니다.\n", userName) +
-        String.format("<p>스터디그룹: %s, 스터디리더: %s님</p>\n", reservation.getStudyGroup().getTitle(), reservation.getUser().getName()) +
-        String.format("<p>룸: %s, 예약시간: %s [%s]~[%s] 으로 등록되었습니다! 😣<p>\n",
-                reservation.getRoom().getName(), formatterStrYearMonthDay(reservation.getStartTime()), 
-                formatterStrTime(reservation.getStartTime()), formatterStrTime(reservation.getEndTime()));
+    private static String release(StringBuilder out) {
+        String result = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
     }
 
-    private String formatterStrYearMonthDay(LocalDateTime time) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        return time.format(formatter);
+    private static String toLabel(ReservationChangedEvent.Type type) {
+        switch (type) {
+            case UPDATED:
+                return "변경";
+            case DELETED:
+                return "취소";
+            default:
+                return "등록";
+        }
     }
 
-    private String formatterStrTime(LocalDateTime time) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        return time.format(formatter);
+    private static class ChangeNotice {
+
+        private final String userName;
+        private final ReservationOutboxMessage message;
+        private final String studyGroupTitle;
+        private final String roomName;
+
+        ChangeNotice(String userName, ReservationOutboxMessage message, String studyGroupTitle, String roomName) {
+            this.userName = userName;
+            this.message = message;
+            this.studyGroupTitle = studyGroupTitle;
+            this.roomName = roomName;
+        }
+
+        String getUserName() {
+            return userName;
+        }
+
+        ReservationOutboxMessage getMessage() {
+            return message;
+        }
+
+        String getStudyGroupTitle() {
+            return studyGroupTitle;
+        }
+
+        String getRoomName() {
+            return roomName;
+        }
     }
 }
@@ -2,44 +2,33 @@ package com.dsg.wardstudy.common.adapter.mail;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Component;
 
-import javax.mail.internet.MimeMessage;
+import java.util.concurrent.CompletableFuture;
 
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class MailSendService {
 
-    private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
 
-    public boolean sendMail(String mail, String subject, String text) {
-
-        boolean result = false;
-
-        MimeMessagePreparator msg = new MimeMessagePreparator() {
-            @Override
-            public void prepare(MimeMessage mimeMessage) throws Exception {
-                MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-                mimeMessageHelper.setTo(mail);
-                mimeMessageHelper.setSubject(subject);
-                mimeMessageHelper.setText(text, true);
-            }
-        };
-        try {
-            javaMailSender.send(msg);
-            log.info("javaMailSender.send");
-            result = true;
-
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        return result;
+    // 발송 요청만 큐에 넣고 바로 반환 (큐가 가득 차면 RejectedExecutionException 으로 완료)
+    public CompletableFuture<Boolean> sendMailAsync(String mail, String subject, String text) {
+        return mailDispatcher.dispatch(mail, subject, text);
+    }
 
+    // 발송 완료까지 대기
+    public boolean sendMail(String mail, String subject, String text) {
+        return sendMailAsync(mail, subject, text)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        log.error("sendMail 실패, mail: {}", mail, e);
+                        return false;
+                    }
+                    return result;
+                })
+                .join();
     }
 
 }
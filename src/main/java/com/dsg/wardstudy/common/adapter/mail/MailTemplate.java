@@ -0,0 +1,121 @@
+package com.dsg.wardstudy.common.adapter.mail;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 미리 컴파일해 두는 메일 템플릿
+ * "{{name}}" 자리표시자를 생성 시 한 번만 파싱해서 (고정 문자열 | 바인딩) 조각 배열로 만들어 두고,
+ * render 는 조각을 순서대로 StringBuilder 에 이어 붙이기만 한다. (렌더링 중 파싱/정규식/String.format 없음)
+ * 바인딩 값은 HTML escape 해서 넣는다.
+ */
+public final class MailTemplate<T> {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final Segment<T>[] segments;
+
+    private MailTemplate(Segment<T>[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @param source   템플릿 원문
+     * @param bindings 자리표시자 이름 -> 값을 붙이는 바인딩 (원문에 없는 이름이 쓰이면 IllegalArgumentException)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MailTemplate<T> compile(String source, Map<String, Binding<T>> bindings) {
+        List<Segment<T>> segments = new ArrayList<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                segments.add(literal(source.substring(pos)));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 자리표시자, index: " + open);
+            }
+            if (open > pos) {
+                segments.add(literal(source.substring(pos, open)));
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            Binding<T> binding = bindings.get(name);
+            if (binding == null) {
+                throw new IllegalArgumentException("바인딩 없는 자리표시자: " + name);
+            }
+            segments.add(binding::appendTo);
+            pos = close + CLOSE.length();
+        }
+        return new MailTemplate<>(segments.toArray(new Segment[0]));
+    }
+
+    public void render(StringBuilder out, T model) {
+        for (Segment<T> segment : segments) {
+            segment.appendTo(out, model);
+        }
+    }
+
+    // 문자열 값 (HTML escape)
+    public static <T> Binding<T> text(Function<T, String> getter) {
+        return (out, model) -> appendEscaped(out, getter.apply(model));
+    }
+
+    // 날짜/시간 값 (formatter 가 StringBuilder 에 바로 씀)
+    public static <T> Binding<T> time(Function<T, ? extends TemporalAccessor> getter, DateTimeFormatter formatter) {
+        return (out, model) -> {
+            TemporalAccessor value = getter.apply(model);
+            if (value != null) {
+                formatter.formatTo(value, out);
+            }
+        };
+    }
+
+    static void appendEscaped(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                case '\'':
+                    out.append("&#39;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+
+    private static <T> Segment<T> literal(String text) {
+        return (out, model) -> out.append(text);
+    }
+
+    @FunctionalInterface
+    public interface Binding<T> {
+        void appendTo(StringBuilder out, T model);
+    }
+
+    @FunctionalInterface
+    private interface Segment<T> {
+        void appendTo(StringBuilder out, T model);
+    }
+}
@@ -11,6 +11,7 @@ public enum ErrorCode {
     DUPLICATED_ENTITY("이미 존재하는 엔티티입니다."),
     INVALID_REQUEST("요청한 값이 올바르지 않습니다."),
     NOT_FOUND_USER("존재하지 않는 사용자입니다."),
+    LOCK_TIMEOUT("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR("일시적인 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");  // 장애 상황
 
     private final String errorMsg;
@@ -9,6 +9,7 @@ public abstract class ErrorHttpStatusMapper {
             case NO_FOUND_ENTITY:
                 return HttpStatus.NOT_FOUND;
             case DUPLICATED_ENTITY:
+            case LOCK_TIMEOUT:
                 return HttpStatus.CONFLICT;
             case INVALID_REQUEST:
                 return HttpStatus.BAD_REQUEST;
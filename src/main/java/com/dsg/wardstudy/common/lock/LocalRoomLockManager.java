@@ -0,0 +1,50 @@
+package com.dsg.wardstudy.common.lock;
+
+import com.dsg.wardstudy.common.exception.ErrorCode;
+import com.dsg.wardstudy.common.exception.WSApiException;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내 룸 락 (lock striping)
+ * roomId 해시로 고정 개수의 ReentrantLock 중 하나를 골라 사용한다.
+ */
+@Log4j2
+public class LocalRoomLockManager implements RoomLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final long waitMillis;
+
+    public LocalRoomLockManager(int stripeCount, long waitMillis) {
+        // 2의 거듭제곱으로 맞춰 비트 마스크로 stripe 선택
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    public RoomLock lock(Long roomId) {
+        ReentrantLock stripe = stripeOf(roomId);
+        try {
+            if (!stripe.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                log.error("room lock 대기시간 초과, roomId: {}", roomId);
+                throw new WSApiException(ErrorCode.LOCK_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WSApiException(ErrorCode.LOCK_TIMEOUT);
+        }
+        return stripe::unlock;
+    }
+
+    private ReentrantLock stripeOf(Long roomId) {
+        int h = roomId.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
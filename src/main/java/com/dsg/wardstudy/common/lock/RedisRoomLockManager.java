@@ -0,0 +1,170 @@
+package com.dsg.wardstudy.common.lock;
+
+import com.dsg.wardstudy.common.exception.ErrorCode;
+import com.dsg.wardstudy.common.exception.WSApiException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 인스턴스 간 룸 락 (Redis lease)
+ * SET NX PX 로 lease 를 잡고, 본인 lease 일 때만 지우도록 Lua 스크립트로 해제한다.
+ * 같은 인스턴스 내 경합은 로컬 stripe 락에서 먼저 줄을 세워 Redis 왕복을 줄인다.
+ * 보유 중에는 watchdog 이 lease 의 1/3 주기로 만료시간을 연장하고, 연장에 실패하면 lease 를 잃은 것으로 본다.
+ */
+@Log4j2
+public class RedisRoomLockManager implements RoomLockManager, AutoCloseable {
+
+    private static final String KEY_PREFIX = "lock:room:";
+    private static final long MAX_BACKOFF_MILLIS = 100L;
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalRoomLockManager localRoomLockManager;
+    private final Duration leaseTime;
+    private final long waitMillis;
+    private final ScheduledExecutorService watchdog;
+
+    public RedisRoomLockManager(StringRedisTemplate redisTemplate, LocalRoomLockManager localRoomLockManager,
+                                Duration leaseTime, long waitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.localRoomLockManager = localRoomLockManager;
+        this.leaseTime = leaseTime;
+        this.waitMillis = waitMillis;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public RoomLock lock(Long roomId) {
+        RoomLock localLock = localRoomLockManager.lock(roomId);
+        String key = KEY_PREFIX + roomId;
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitMillis;
+        long backoff = 10L;
+        try {
+            while (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, leaseTime))) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.error("redis room lock 대기시간 초과, roomId: {}", roomId);
+                    throw new WSApiException(ErrorCode.LOCK_TIMEOUT);
+                }
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            localLock.unlock();
+            Thread.currentThread().interrupt();
+            throw new WSApiException(ErrorCode.LOCK_TIMEOUT);
+        } catch (RuntimeException e) {
+            localLock.unlock();
+            throw e;
+        }
+        RedisRoomLock roomLock = new RedisRoomLock(roomId, key, owner, localLock);
+        roomLock.startRenewal();
+        return roomLock;
+    }
+
+    @Override
+    public void close() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * 보유 중인 Redis lease
+     */
+    private class RedisRoomLock implements RoomLock {
+
+        private final Long roomId;
+        private final String key;
+        private final String owner;
+        private final RoomLock localLock;
+        private final AtomicBoolean lost = new AtomicBoolean();
+        private volatile ScheduledFuture<?> renewal;
+        private volatile long leaseExpiresAt;
+
+        RedisRoomLock(Long roomId, String key, String owner, RoomLock localLock) {
+            this.roomId = roomId;
+            this.key = key;
+            this.owner = owner;
+            this.localLock = localLock;
+            this.leaseExpiresAt = System.currentTimeMillis() + leaseTime.toMillis();
+        }
+
+        private void startRenewal() {
+            long interval = Math.max(1L, leaseTime.toMillis() / 3);
+            renewal = watchdog.scheduleAtFixedRate(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        private void renew() {
+            long now = System.currentTimeMillis();
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), owner,
+                        String.valueOf(leaseTime.toMillis()));
+                if (renewed != null && renewed == 1L) {
+                    leaseExpiresAt = now + leaseTime.toMillis();
+                    return;
+                }
+                log.error("redis room lock lease 를 잃었습니다, roomId: {}", roomId);
+                markLost();
+            } catch (RuntimeException e) {
+                // 일시적인 오류는 다음 주기에 다시 연장 (그 사이 lease 가 끝났으면 잃은 것으로 본다)
+                log.warn("redis room lock 연장 실패, roomId: {}", roomId, e);
+                if (System.currentTimeMillis() >= leaseExpiresAt) {
+                    markLost();
+                }
+            }
+        }
+
+        private void markLost() {
+            lost.set(true);
+            stopRenewal();
+        }
+
+        private void stopRenewal() {
+            ScheduledFuture<?> scheduled = renewal;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        @Override
+        public void verify() {
+            if (lost.get() || !owner.equals(redisTemplate.opsForValue().get(key))) {
+                markLost();
+                log.error("redis room lock lease 가 만료되었습니다, roomId: {}", roomId);
+                throw new WSApiException(ErrorCode.LOCK_TIMEOUT, "룸 락이 만료되었습니다. 다시 시도해주세요.");
+            }
+        }
+
+        @Override
+        public void unlock() {
+            stopRenewal();
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), owner);
+            } catch (RuntimeException e) {
+                // 해제 실패시 lease 만료로 풀린다
+                log.error("redis room lock 해제 실패, roomId: {}", roomId, e);
+            } finally {
+                localLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.dsg.wardstudy.common.lock;
+
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.function.Supplier;
+
+/**
+ * 룸 단위 락
+ * 같은 룸 예약 요청은 순서대로 처리하고, 다른 룸 예약은 병렬로 처리한다. (DB row lock 미사용)
+ */
+public interface RoomLockManager {
+
+    /**
+     * roomId 락 획득 (대기시간 초과시 WSApiException)
+     */
+    RoomLock lock(Long roomId);
+
+    /**
+     * 룸 락을 잡은 뒤 트랜잭션을 열어 action 실행, 커밋(또는 롤백) 이후에 락 해제
+     * 락 대기 중에는 DB 커넥션을 잡지 않고, 커밋 이후에 해제되어야 다음 요청이 커밋된 예약을 보고 중복 체크를 할 수 있다.
+     * 커밋 직전에 락을 아직 보유하고 있는지 확인하고, 잃었으면 예외로 롤백한다.
+     */
+    default <T> T executeInTransaction(Long roomId, TransactionOperations transactionOperations, Supplier<T> action) {
+        RoomLock roomLock = lock(roomId);
+        try {
+            return transactionOperations.execute(status -> {
+                T result = action.get();
+                roomLock.verify();
+                return result;
+            });
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    interface RoomLock {
+
+        void unlock();
+
+        /**
+         * 락을 아직 보유하고 있는지 확인 (잃었으면 WSApiException)
+         */
+        default void verify() {
+        }
+    }
+}
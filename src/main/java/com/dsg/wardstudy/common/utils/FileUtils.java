@@ -1,52 +1,43 @@
 package com.dsg.wardstudy.common.utils;
 
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class FileUtils {
 
     public static String getFileCodeName(MultipartFile file) {
-        return RandomStringUtils.randomAlphanumeric(8) + "-" + file.getOriginalFilename();
+        // 경로 구분자가 섞인 파일명으로 업로드 폴더 밖에 쓰지 않도록 파일명만 사용
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(file.getOriginalFilename())));
+        return RandomStringUtils.randomAlphanumeric(8) + "-" + fileName;
     }
 
-    public static byte[] compressImage(byte[] data) {
-        Deflater deflater = new Deflater();
-        deflater.setLevel(Deflater.BEST_COMPRESSION);
-        deflater.setInput(data);
-        deflater.finish();
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length);
-        byte[] tmp = new byte[4*1024];
-        while (!deflater.finished()) {
-            int size = deflater.deflate(tmp);
-            outputStream.write(tmp, 0, size);
-        }
-        try {
-            outputStream.close();
-        } catch (Exception ignored) {
-        }
-        return outputStream.toByteArray();
-    }
-
-
-
-    public static byte[] decompressImage(byte[] data) {
-        Inflater inflater = new Inflater();
-        inflater.setInput(data);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length);
-        byte[] tmp = new byte[4*1024];
-        try {
-            while (!inflater.finished()) {
-                int count = inflater.inflate(tmp);
-                outputStream.write(tmp, 0, count);
+    /**
+     * 파일의 [position, position + count) 구간을 out 으로 전송
+     * FileChannel.transferTo 로 보내서 파일 크기만큼 heap 에 올리지 않는다.
+     */
+    public static void transferTo(Path path, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long end = position + count;
+            long pos = position;
+            while (pos < end) {
+                long transferred = channel.transferTo(pos, end - pos, target);
+                if (transferred <= 0) {
+                    // 전송 도중 파일이 줄어든 경우
+                    break;
+                }
+                pos += transferred;
             }
-            outputStream.close();
-        } catch (Exception ignored) {
         }
-        return outputStream.toByteArray();
+        out.flush();
     }
 }
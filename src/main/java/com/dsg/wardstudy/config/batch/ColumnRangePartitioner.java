@@ -0,0 +1,56 @@
+package com.dsg.wardstudy.config.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 숫자 컬럼(pk 등)의 min ~ max 범위를 gridSize 개 구간으로 나누는 Partitioner
+ * 각 파티션 ExecutionContext 에 minId, maxId (양 끝 포함) 를 담는다.
+ * 파티션 이름이 고정(partition0..)이라 실패한 파티션만 재시작된다.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class ColumnRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String column;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long min = jdbcTemplate.queryForObject("select min(" + column + ") from " + table, Long.class);
+        Long max = jdbcTemplate.queryForObject("select max(" + column + ") from " + table, Long.class);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (min == null || max == null) {
+            // 대상이 없어도 빈 파티션 하나는 실행 (step 상태를 남기기 위해)
+            partitions.put("partition0", range(0L, -1L));
+            return partitions;
+        }
+
+        long targetSize = (max - min) / gridSize + 1;
+        int number = 0;
+        for (long start = min; start <= max; start += targetSize) {
+            long end = Math.min(start + targetSize - 1, max);
+            partitions.put("partition" + number++, range(start, end));
+        }
+        log.info("{}.{} partitioned, min: {}, max: {}, partitions: {}", table, column, min, max, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dsg.wardstudy.config.batch;
+
+import com.dsg.wardstudy.domain.reservation.dto.NotificationAlarmDto;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수신자별 알림 reader
+ * 수신자(user_id) 순으로 정렬된 예약 알림 행을 읽어서, 같은 수신자의 연속된 행을 메일 1건(NotificationAlarmDto)으로 묶는다.
+ * 다음 수신자의 첫 행은 미리 읽어둔다. (파티션마다 step scope 인스턴스라 동기화하지 않음)
+ */
+@RequiredArgsConstructor
+public class NotificationAlarmItemReader implements ItemStreamReader<NotificationAlarmDto> {
+
+    private final ItemStreamReader<ReservationAlarmItem> delegate;
+
+    private ReservationAlarmItem peeked;
+
+    @Override
+    public NotificationAlarmDto read() throws Exception {
+        ReservationAlarmItem first = peeked != null ? peeked : delegate.read();
+        peeked = null;
+        if (first == null) {
+            return null;
+        }
+
+        List<ReservationAlarmItem> reservations = new ArrayList<>();
+        reservations.add(first);
+        ReservationAlarmItem next;
+        while ((next = delegate.read()) != null) {
+            if (!Objects.equals(next.getRecipientId(), first.getRecipientId())) {
+                peeked = next;
+                break;
+            }
+            reservations.add(next);
+        }
+
+        return NotificationAlarmDto.builder()
+                .userId(first.getRecipientId())
+                .email(first.getRecipientEmail())
+                .userName(first.getRecipientName())
+                .reservations(reservations)
+                .build();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        peeked = null;
+        delegate.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.dsg.wardstudy.config.batch;
+
+import com.dsg.wardstudy.common.adapter.mail.MailMessageGenerator;
+import com.dsg.wardstudy.common.adapter.mail.MailSendService;
+import com.dsg.wardstudy.domain.reservation.dto.NotificationAlarmDto;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import com.dsg.wardstudy.repository.reservation.ReservationAlarmJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 수신자별 알림 메일 발송 writer
+ * 청크 안의 메일은 한꺼번에 발송 큐에 넣고(MailDispatcher 워커가 병렬 발송) 결과를 모두 기다린 뒤,
+ * 발송 성공한 (예약, 수신자) 만 발송 기록으로 남긴다.
+ * 이 청크에서 발송한 예약 중 멤버 전원 발송 기록이 있는 예약은 청크마다 in 절 update 한 번으로 is_email_sent 를 반영하고,
+ * 반영 건수는 StepExecution 에 누적한다. (MARKED_SENT_COUNT)
+ * 한 예약의 수신자는 여러 청크/파티션에 나뉘어 다른 파티션의 미커밋 기록은 보이지 않으므로,
+ * 여기서 빠진 예약은 모든 파티션이 끝난 뒤 notificationAlarmMarkSentStep 에서 반영한다.
+ * 발송 실패한 수신자는 기록이 없으므로 다음 실행 때 그 수신자에게만 다시 발송된다.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class NotificationAlarmItemWriter implements ItemWriter<NotificationAlarmDto>, StepExecutionListener {
+
+    public static final String MARKED_SENT_COUNT = "notificationAlarm.markedSentCount";
+    private static final String SUBJECT = "ward-study 예약룸 알림";
+
+    private final ReservationAlarmJdbcRepository reservationAlarmJdbcRepository;
+    private final MailSendService mailSendService;
+    private final MailMessageGenerator messageGenerator;
+
+    private StepExecution stepExecution;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("notificationAlarm step: {}, markedSent: {}", stepExecution.getStepName(),
+                stepExecution.getExecutionContext().getInt(MARKED_SENT_COUNT, 0));
+        return null;
+    }
+
+    @Override
+    public void write(List<? extends NotificationAlarmDto> items) {
+        List<NotificationAlarmDto> targets = new ArrayList<>();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (NotificationAlarmDto item : items) {
+            if (item.getReservations().isEmpty()) {
+                continue;
+            }
+            String toMessage = messageGenerator.toMessage(item.getUserName(), item.getReservations());
+            log.debug("sendMail: {}", toMessage);
+            targets.add(item);
+            results.add(mailSendService.sendMailAsync(item.getEmail(), SUBJECT, toMessage)
+                    .exceptionally(e -> false));
+        }
+
+        List<ReservationAlarmItem> delivered = new ArrayList<>();
+        List<Long> failedRecipients = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (results.get(i).join()) {
+                delivered.addAll(targets.get(i).getReservations());
+            } else {
+                failedRecipients.add(targets.get(i).getUserId());
+            }
+        }
+
+        int markedSent = 0;
+        if (!delivered.isEmpty()) {
+            reservationAlarmJdbcRepository.insertDeliveries(delivered);
+            markedSent = reservationAlarmJdbcRepository.markFullyDelivered(delivered.stream()
+                    .map(ReservationAlarmItem::getReservationId)
+                    .collect(Collectors.toCollection(TreeSet::new)));
+            addMarkedSent(markedSent);
+        }
+        log.info("notificationAlarm chunk, recipients: {}, sentMails: {}, deliveries: {}, markedSent: {}, failedRecipients: {}",
+                items.size(), targets.size() - failedRecipients.size(), delivered.size(), markedSent, failedRecipients);
+    }
+
+    private void addMarkedSent(int markedSent) {
+        if (stepExecution == null) {
+            return;
+        }
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putInt(MARKED_SENT_COUNT, executionContext.getInt(MARKED_SENT_COUNT, 0) + markedSent);
+    }
+}
@@ -3,30 +3,29 @@ package com.dsg.wardstudy.config.batch;
 
 import com.dsg.wardstudy.common.adapter.mail.MailMessageGenerator;
 import com.dsg.wardstudy.common.adapter.mail.MailSendService;
-import com.dsg.wardstudy.domain.reservation.entity.Reservation;
 import com.dsg.wardstudy.domain.reservation.dto.NotificationAlarmDto;
-import com.dsg.wardstudy.domain.reservation.service.ReservationService;
-import com.dsg.wardstudy.domain.user.entity.User;
-import com.dsg.wardstudy.repository.reservation.ReservationQueryRepository;
-import com.dsg.wardstudy.repository.user.UserGroupRepository;
-import com.dsg.wardstudy.repository.user.UserRepository;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import com.dsg.wardstudy.repository.reservation.ReservationAlarmJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.*;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.Collections;
-import java.util.List;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 
 @Log4j2
 @Configuration
@@ -36,86 +35,142 @@ public class NotificationAlarmJobConfig {
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
 
-    private final ReservationService reservationService;
-    private final ReservationQueryRepository reservationQueryRepository;
-    private final UserGroupRepository userGroupRepository;
-    private final UserRepository userRepository;
+    private final ReservationAlarmJdbcRepository reservationAlarmJdbcRepository;
     private final MailSendService mailSendService;
     private final MailMessageGenerator messageGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
 
-    private static final int CHUNK_SIZE = 4;
+    // 알림 대상: 시작 전 & 메일 미발송 예약 x 해당 스터디그룹 멤버 중 아직 발송 기록이 없는 수신자
+    // (수신자 순 정렬 -> reader 에서 수신자별로 묶음)
+    private static final String ALARM_TARGET_SQL = "select r.reservation_id, r.start_time, r.end_time, " +
+            "sg.title as study_group_title, reg.name as register_name, rm.name as room_name, " +
+            "u.user_id as recipient_id, u.email as recipient_email, u.name as recipient_name " +
+            "from reservation r " +
+            "join user_group ug on ug.study_group_id = r.study_group_id " +
+            "join users u on u.user_id = ug.user_id " +
+            "join study_group sg on sg.study_group_id = r.study_group_id " +
+            "join users reg on reg.user_id = r.register_id " +
+            "join room rm on rm.room_id = r.room_id " +
+            "where r.start_time > ? and r.is_email_sent = false " +
+            "and u.user_id between ? and ? " +
+            "and not exists (select 1 from reservation_alarm_delivery d " +
+            "where d.reservation_id = r.reservation_id and d.user_id = u.user_id) " +
+            "order by u.user_id, r.start_time";
+
+    // 파티션 수 (= 워커 스레드 수)
+    @Value("${app.batch.notification.grid-size:4}")
+    private int gridSize;
+
+    @Value("${app.batch.notification.chunk-size:20}")
+    private int chunkSize;
+
+    // 커서로 한 번에 가져올 행 수 (MySQL 은 useCursorFetch=true 일 때만 적용)
+    @Value("${app.batch.notification.fetch-size:500}")
+    private int fetchSize;
 
     @Bean("notificationAlarmJob")
-    public Job notificationAlarmJob(Step notificationAlarmStep) {
+    public Job notificationAlarmJob(Step notificationAlarmStep, Step notificationAlarmMarkSentStep) {
         return jobBuilderFactory.get("notificationAlarmJob")
                 .incrementer(new RunIdIncrementer())
                 .start(notificationAlarmStep)
+                .next(notificationAlarmMarkSentStep)
                 .build();
     }
 
+    // 수신자(user_id) 범위로 나눈 파티션을 워커 스레드에서 병렬 실행 (한 수신자는 한 파티션에만 속해 메일 1건)
     @JobScope
     @Bean("notificationAlarmStep")
-    public Step notificationAlarmStep(ItemReader<User> notificationAlarmReader,
-                                      ItemProcessor<User, NotificationAlarmDto> notificationAlarmProcessor,
-                                      ItemWriter<NotificationAlarmDto> notificationAlarmWriter) {
+    public Step notificationAlarmStep(Step notificationAlarmWorkerStep) {
         return stepBuilderFactory.get("notificationAlarmStep")
-                .<User, NotificationAlarmDto>chunk(CHUNK_SIZE)
+                .partitioner("notificationAlarmWorkerStep", notificationAlarmPartitioner())
+                .step(notificationAlarmWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(notificationAlarmTaskExecutor())
+                .build();
+    }
+
+    @Bean("notificationAlarmWorkerStep")
+    public Step notificationAlarmWorkerStep(NotificationAlarmItemReader notificationAlarmReader,
+                                            NotificationAlarmItemWriter notificationAlarmWriter) {
+        return stepBuilderFactory.get("notificationAlarmWorkerStep")
+                .<NotificationAlarmDto, NotificationAlarmDto>chunk(chunkSize)
                 .reader(notificationAlarmReader)
-                .processor(notificationAlarmProcessor)
                 .writer(notificationAlarmWriter)
                 .build();
     }
 
-    @StepScope
-    @Bean
-    public RepositoryItemReader<User> notificationAlarmReader() {
-        return new RepositoryItemReaderBuilder<User>()
-                .name("notificationAlarmReader")
-                .repository(userRepository)
-                .methodName("findBy")
-                .pageSize(CHUNK_SIZE)
-                .arguments(List.of())
-                .sorts(Collections.singletonMap("id", Sort.Direction.ASC))
+    // 모든 파티션 커밋 이후, 청크에서 반영되지 못한 (수신자가 여러 파티션에 걸친) 예약까지 멤버 전원 발송 기록이 있으면 반영
+    // (지난 예약 발송 기록은 정리)
+    @Bean("notificationAlarmMarkSentStep")
+    public Step notificationAlarmMarkSentStep() {
+        return stepBuilderFactory.get("notificationAlarmMarkSentStep")
+                .tasklet((contribution, chunkContext) -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    int updated = reservationAlarmJdbcRepository.markFullyDelivered(now);
+                    int purged = reservationAlarmJdbcRepository.purgeDeliveries(now);
+                    log.info("notificationAlarm markSent, updated: {}, purgedDeliveries: {}", updated, purged);
+                    return RepeatStatus.FINISHED;
+                })
                 .build();
     }
 
+    @Bean
+    public Partitioner notificationAlarmPartitioner() {
+        return new ColumnRangePartitioner(jdbcTemplate, "users", "user_id");
+    }
+
+    @Bean
+    public TaskExecutor notificationAlarmTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("notification-alarm-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     @StepScope
     @Bean
-    public ItemProcessor<User, NotificationAlarmDto> notificationAlarmProcessor() {
-        return user -> {
-
-            List<Long> sgIds = userGroupRepository.findSgIdsByUserId(user.getId());
-            log.info("sgIds: {}", sgIds);
-
-            List<Reservation> reservations =
-                    // IsEmailSent.eq(false)인 메일 축출 추가
-                    reservationQueryRepository.findByStartTimeAfterNowAndIsSentFalse(sgIds);
-            log.info("reservations: {}", reservations);
-
-            return NotificationAlarmDto.builder()
-                    .email(user.getEmail())
-                    .userName(user.getName())
-                    .reservations(reservations)
-                    .build();
-        };
+    public NotificationAlarmItemReader notificationAlarmReader(
+            @Value("#{stepExecutionContext['" + ColumnRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + ColumnRangePartitioner.MAX_ID + "']}") Long maxId) {
+        return new NotificationAlarmItemReader(alarmTargetReader(minId, maxId));
+    }
+
+    // 재시작 시에는 처음부터 다시 조회 (발송 완료 예약은 is_email_sent 조건으로 빠지므로 읽은 위치는 저장하지 않음)
+    private JdbcCursorItemReader<ReservationAlarmItem> alarmTargetReader(Long minId, Long maxId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new JdbcCursorItemReaderBuilder<ReservationAlarmItem>()
+                .name("alarmTargetReader")
+                .dataSource(dataSource)
+                .sql(ALARM_TARGET_SQL)
+                .preparedStatementSetter(ps -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, minId);
+                    ps.setLong(3, maxId);
+                })
+                .fetchSize(fetchSize)
+                .saveState(false)
+                .rowMapper((rs, rowNum) -> ReservationAlarmItem.builder()
+                        .reservationId(rs.getLong("reservation_id"))
+                        .startTime(rs.getTimestamp("start_time").toLocalDateTime())
+                        .endTime(rs.getTimestamp("end_time").toLocalDateTime())
+                        .studyGroupTitle(rs.getString("study_group_title"))
+                        .registerName(rs.getString("register_name"))
+                        .roomName(rs.getString("room_name"))
+                        .recipientId(rs.getLong("recipient_id"))
+                        .recipientEmail(rs.getString("recipient_email"))
+                        .recipientName(rs.getString("recipient_name"))
+                        .build())
+                .build();
     }
 
     @StepScope
     @Bean
-    public ItemWriter<NotificationAlarmDto> notificationAlarmWriter() {
-        return items -> items.forEach(
-                item -> {
-                    if(!item.getReservations().isEmpty()){
-                        String toMessage = messageGenerator.toMessage(item.getUserName(), item.getReservations());
-                        log.info("sendMail: {}", toMessage);
-                        if(mailSendService.sendMail(item.getEmail(), "ward-study 예약룸 알림", toMessage)) {
-                            for (Reservation r : item.getReservations()) {
-                                reservationService.changeIsEmailSent(r);
-                            }
-                        }
-                    }
-                }
-        );
+    public NotificationAlarmItemWriter notificationAlarmWriter() {
+        return new NotificationAlarmItemWriter(reservationAlarmJdbcRepository, mailSendService, messageGenerator);
     }
 
 }
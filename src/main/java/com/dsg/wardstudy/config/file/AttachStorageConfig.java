@@ -0,0 +1,95 @@
+package com.dsg.wardstudy.config.file;
+
+import com.dsg.wardstudy.domain.attach.service.AttachUploadService;
+import com.dsg.wardstudy.domain.attach.storage.AttachStorage;
+import com.dsg.wardstudy.domain.attach.storage.FirebaseAttachStorage;
+import com.dsg.wardstudy.domain.attach.storage.LocalAttachStorage;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailCache;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailService;
+import com.dsg.wardstudy.repository.attach.AttachRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부파일 저장소 설정
+ * app.attach.storage : firebase(기본값) / local(파일시스템, 로컬 개발/테스트용)
+ */
+@Configuration
+public class AttachStorageConfig {
+
+    // 전체 요청이 같이 쓰는 업로드 스레드 수
+    @Value("${app.attach.upload-threads:8}")
+    private int uploadThreads;
+
+    @Value("${app.attach.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.attach.max-concurrency-per-request:4}")
+    private int maxConcurrencyPerRequest;
+
+    @Value("${app.attach.timeout-millis:30000}")
+    private long timeoutMillis;
+
+    // 썸네일 크기 (긴 변 기준 px)
+    @Value("${app.attach.thumbnail.sizes:160,480}")
+    private List<Integer> thumbnailSizes;
+
+    @Value("${app.attach.thumbnail.threads:2}")
+    private int thumbnailThreads;
+
+    @Value("${app.attach.thumbnail.cache-dir:./thumbnail-cache}")
+    private String thumbnailCacheDir;
+
+    @Value("${app.attach.thumbnail.cache-max-bytes:536870912}")
+    private long thumbnailCacheMaxBytes;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.attach.storage", havingValue = "firebase", matchIfMissing = true)
+    public AttachStorage firebaseAttachStorage(@Value("${app.firebase-bucket}") String bucketName) {
+        return new FirebaseAttachStorage(bucketName);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.attach.storage", havingValue = "local")
+    public AttachStorage localAttachStorage(@Value("${app.attach.local-dir:./attach-upload}") String directory) throws IOException {
+        return new LocalAttachStorage(directory);
+    }
+
+    // 업로드 풀은 bean 으로 노출하지 않음 (Executor bean 이 늘면 기본 applicationTaskExecutor 가 빠짐)
+    // 큐까지 가득 차면 RejectedExecutionException -> 해당 파일만 실패 처리
+    @Bean(destroyMethod = "shutdown")
+    public AttachUploadService attachUploadService(AttachStorage attachStorage, ThumbnailService thumbnailService) {
+        return new AttachUploadService(attachStorage, thumbnailService,
+                boundedExecutor("attach-upload-", uploadThreads, queueCapacity), maxConcurrencyPerRequest, timeoutMillis);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThumbnailService thumbnailService(AttachStorage attachStorage, AttachRepository attachRepository) throws IOException {
+        return new ThumbnailService(attachStorage, attachRepository,
+                new ThumbnailCache(thumbnailCacheDir, thumbnailCacheMaxBytes),
+                boundedExecutor("thumbnail-", thumbnailThreads, queueCapacity), thumbnailSizes);
+    }
+
+    private ThreadPoolExecutor boundedExecutor(String prefix, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
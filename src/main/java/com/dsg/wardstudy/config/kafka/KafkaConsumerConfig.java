@@ -0,0 +1,61 @@
+package com.dsg.wardstudy.config.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+/**
+ * 예약 알림 consumer 에러 처리
+ * 처리 중 예외가 나면 offset 을 커밋하지 않고 같은 메시지를 backoff 후 다시 처리한다. (최대 max-retries 번)
+ * 재시도를 다 쓰면 {topic}{dlt-suffix} 토픽으로 보내고 다음 메시지로 넘어간다. (역직렬화 실패는 재시도 없이 바로 DLT)
+ * (CommonErrorHandler bean 은 Boot 가 기본 listener container factory 에 붙인다)
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class KafkaConsumerConfig {
+
+    @Value("${app.outbox.consumer.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${app.outbox.consumer.initial-backoff-millis:1000}")
+    private long initialBackoffMillis;
+
+    // max.poll.interval.ms(기본 5분)보다 충분히 작게
+    @Value("${app.outbox.consumer.max-backoff-millis:30000}")
+    private long maxBackoffMillis;
+
+    @Value("${app.outbox.consumer.dlt-suffix:.DLT}")
+    private String dltSuffix;
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        // partition 은 지정하지 않음 (DLT 파티션 수가 원래 토픽과 달라도 됨)
+        return new DeadLetterPublishingRecoverer(kafkaTemplate, (record, e) -> {
+            log.error("kafka 메시지 DLT 이동, topic: {}, offset: {}, key: {}",
+                    record.topic(), record.offset(), record.key(), e);
+            return new TopicPartition(record.topic() + dltSuffix, -1);
+        });
+    }
+
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(initialBackoffMillis);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(maxBackoffMillis);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer, backOff);
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        return errorHandler;
+    }
+}
@@ -0,0 +1,48 @@
+package com.dsg.wardstudy.config.lock;
+
+import com.dsg.wardstudy.common.lock.LocalRoomLockManager;
+import com.dsg.wardstudy.common.lock.RedisRoomLockManager;
+import com.dsg.wardstudy.common.lock.RoomLockManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 룸 락 설정
+ * app.reservation.lock.mode : local(단일 인스턴스, 기본값) / redis(다중 인스턴스)
+ */
+@Configuration
+public class RoomLockConfig {
+
+    @Value("${app.reservation.lock.stripes:64}")
+    private int stripes;
+
+    @Value("${app.reservation.lock.wait-millis:3000}")
+    private long waitMillis;
+
+    @Value("${app.reservation.lock.lease-millis:10000}")
+    private long leaseMillis;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.reservation.lock.mode", havingValue = "local", matchIfMissing = true)
+    public RoomLockManager localRoomLockManager() {
+        return new LocalRoomLockManager(stripes, waitMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.reservation.lock.mode", havingValue = "redis")
+    public RoomLockManager redisRoomLockManager(
+            @Qualifier("redisCacheConnectionFactory") RedisConnectionFactory redisConnectionFactory) {
+        return new RedisRoomLockManager(
+                new StringRedisTemplate(redisConnectionFactory),
+                new LocalRoomLockManager(stripes, waitMillis),
+                Duration.ofMillis(leaseMillis),
+                waitMillis);
+    }
+}
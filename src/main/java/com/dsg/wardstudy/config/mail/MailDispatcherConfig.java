@@ -0,0 +1,46 @@
+package com.dsg.wardstudy.config.mail;
+
+import com.dsg.wardstudy.common.adapter.mail.MailDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * 비동기 메일 발송 설정
+ * app.mail.workers 만큼 SMTP 연결을 동시에 쓰고, 연결마다 max-batch 통까지 묶어서 보낸다.
+ */
+@Configuration
+public class MailDispatcherConfig {
+
+    @Value("${app.mail.workers:4}")
+    private int workers;
+
+    @Value("${app.mail.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${app.mail.max-batch:20}")
+    private int maxBatch;
+
+    @Value("${app.mail.offer-timeout-millis:1000}")
+    private long offerTimeoutMillis;
+
+    @Value("${app.mail.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.mail.backoff-millis:1000}")
+    private long backoffMillis;
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public MailDispatcher mailDispatcher(JavaMailSender javaMailSender) {
+        return MailDispatcher.builder()
+                .mailSender(javaMailSender)
+                .workers(workers)
+                .queueCapacity(queueCapacity)
+                .maxBatch(maxBatch)
+                .offerTimeoutMillis(offerTimeoutMillis)
+                .maxAttempts(maxAttempts)
+                .backoffMillis(backoffMillis)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.dsg.wardstudy.config.redis;
+
+import com.dsg.wardstudy.domain.reservation.cache.ReservationDayBucketCache;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.repository.user.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_DAY_BUCKET;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_USER_LIST;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.STUDY_GROUP_LIST;
+
+/**
+ * 변경 이벤트별로 영향을 받는 캐시 키만 커밋 이후에 삭제
+ * - 예약 변경 : 해당 룸 예약 목록, 해당 룸의 바뀐 일자 버킷, 스터디그룹 멤버들의 예약 목록 (일괄 등록은 한 번에)
+ * - 스터디그룹 변경 : 멤버들의 스터디그룹 목록, 예약 목록
+ * 커밋 전에 지우면 다른 요청이 커밋 전 데이터로 다시 캐시를 채울 수 있으므로 AFTER_COMMIT 에서 처리한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+    private final UserGroupRepository userGroupRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        evict(RESERVATION_LIST, event.getRoomId());
+        evict(RESERVATION_DAY_BUCKET, ReservationDayBucketCache.key(event.getRoomId(), event.getStartTime().toLocalDate()));
+        if (event.getPreviousStartTime() != null
+                && !event.getPreviousStartTime().toLocalDate().equals(event.getStartTime().toLocalDate())) {
+            evict(RESERVATION_DAY_BUCKET,
+                    ReservationDayBucketCache.key(event.getRoomId(), event.getPreviousStartTime().toLocalDate()));
+        }
+        userGroupRepository.findUserIdsBySGId(event.getStudyGroupId())
+                .forEach(userId -> evict(RESERVATION_USER_LIST, userId));
+    }
+
+    // 일괄 등록은 룸/멤버 키를 한 번만 지우고, 일자 버킷은 겹치지 않게 모아서 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationBulkRegistered(ReservationBulkRegisteredEvent event) {
+        evict(RESERVATION_LIST, event.getRoomId());
+        event.getReservations().stream()
+                .map(reservation -> reservation.getStartTime().toLocalDate())
+                .distinct()
+                .forEach(day -> evict(RESERVATION_DAY_BUCKET, ReservationDayBucketCache.key(event.getRoomId(), day)));
+        userGroupRepository.findUserIdsBySGId(event.getStudyGroupId())
+                .forEach(userId -> evict(RESERVATION_USER_LIST, userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        event.getMemberIds().forEach(userId -> {
+            evict(STUDY_GROUP_LIST, userId);
+            evict(RESERVATION_USER_LIST, userId);
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(key);
+        } catch (RuntimeException e) {
+            // 커밋은 끝났으므로 예외를 던지지 않는다 (TTL 로 만료)
+            log.error("cache evict 실패, cacheName: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.dsg.wardstudy.config.redis;
+
+import lombok.Getter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(로컬 Caffeine) + L2(Redis) 2단 캐시
+ * 조회 : L1 -> L2 -> (miss) 원본, L2 에서 찾은 값은 L1 에 채운다.
+ * 삭제 : L2 삭제 후 L1 삭제, 다른 인스턴스의 L1 은 pub/sub 으로 삭제 (LayeredCacheManager)
+ * 로컬 키는 key.toString() 으로 저장해 pub/sub 메시지의 키와 맞춘다.
+ * 같은 키 miss 는 Caffeine get(key, mappingFunction) 으로 한 스레드만 L2/원본을 조회한다.
+ * L2/원본 조회 도중 해당 키가 변경/삭제되면(epoch 증가) 읽은 값은 반환만 하고 캐시에 채우지 않는다. (오래된 값이 L1 에 남지 않도록)
+ */
+public class LayeredCache extends AbstractValueAdaptingCache {
+
+    // 키별 변경 epoch 는 고정 개수 stripe 로 관리 (같은 stripe 의 다른 키 변경은 캐시를 한 번 덜 채울 뿐)
+    private static final int EPOCH_STRIPES = 64;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    // (cacheName, key) 다른 인스턴스에 L1 삭제 전파, key 가 null 이면 전체 삭제
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final AtomicLongArray keyEpochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+
+    @Getter
+    private final LongAdder localHits = new LongAdder();
+    @Getter
+    private final LongAdder remoteHits = new LongAdder();
+    @Getter
+    private final LongAdder misses = new LongAdder();
+
+    public LayeredCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        Cache remoteCache,
+                        BiConsumer<String, String> invalidationPublisher) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        long epoch = epochOf(localKey);
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        Object storeValue = toStoreValue(wrapper.get());
+        if (epochOf(localKey) == epoch) {
+            localCache.put(localKey, storeValue);
+        }
+        return storeValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+        Object cached = localCache.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) fromStoreValue(cached);
+        }
+        // 같은 키를 동시에 요청하면 한 스레드만 로딩하고 나머지는 그 결과를 기다린다
+        AtomicReference<Object> loaded = new AtomicReference<>();
+        Object storeValue = localCache.get(localKey, k -> {
+            long epoch = epochOf(k);
+            Object value = loadStoreValue(key, valueLoader, epoch);
+            loaded.set(value);
+            // 로딩 중 무효화되었으면 L1 에 넣지 않는다 (null 반환시 저장 안 함)
+            return epochOf(k) == epoch ? value : null;
+        });
+        return (T) fromStoreValue(storeValue != null ? storeValue : loaded.get());
+    }
+
+    // L2 -> 원본 순으로 조회, 원본 값은 로딩 중 무효화가 없었을 때만 L2 에 채운다
+    private Object loadStoreValue(Object key, Callable<?> valueLoader, long epoch) {
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper != null) {
+            remoteHits.increment();
+            return toStoreValue(wrapper.get());
+        }
+        misses.increment();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Throwable ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        if (epochOf(key.toString()) == epoch) {
+            remoteCache.put(key, value);
+        }
+        return toStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key.toString();
+        // 진행 중인 로딩이 이전 값을 덮어쓰지 않도록
+        bumpEpoch(localKey);
+        remoteCache.put(key, value);
+        localCache.put(localKey, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        invalidateLocal(key.toString());
+        invalidationPublisher.accept(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        invalidateLocal(null);
+        invalidationPublisher.accept(name, null);
+    }
+
+    // 다른 인스턴스에서 받은 삭제 메시지 처리 (L1 만 삭제)
+    void invalidateLocal(String key) {
+        // epoch 를 먼저 올려야 진행 중인 로딩이 삭제 이후에 L1 을 다시 채우지 않는다
+        bumpEpoch(key);
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private void bumpEpoch(String localKey) {
+        if (localKey == null) {
+            clearEpoch.incrementAndGet();
+        } else {
+            keyEpochs.incrementAndGet(stripeOf(localKey));
+        }
+    }
+
+    // clear 와 키 stripe epoch 의 합 (둘 다 증가만 하므로 어느 쪽이 바뀌어도 값이 달라진다)
+    private long epochOf(String localKey) {
+        return clearEpoch.get() + keyEpochs.get(stripeOf(localKey));
+    }
+
+    private static int stripeOf(String localKey) {
+        int h = localKey.hashCode();
+        h ^= (h >>> 16);
+        return h & (EPOCH_STRIPES - 1);
+    }
+
+    long localSize() {
+        return localCache.estimatedSize();
+    }
+}
@@ -0,0 +1,94 @@
+package com.dsg.wardstudy.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 캐시 매니저
+ * evict/clear 시 Redis pub/sub 으로 다른 인스턴스의 L1 을 삭제한다. (자기 자신이 보낸 메시지는 무시)
+ * 메시지 형식 : {instanceId}|{cacheName}|{key} (key 가 비어있으면 전체 삭제)
+ */
+@Log4j2
+public class LayeredCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                               long localMaxSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public List<LayeredCacheStats> getStats() {
+        return caches.values().stream()
+                .map(LayeredCacheStats::of)
+                .collect(Collectors.toList());
+    }
+
+    private LayeredCache createCache(String name) {
+        return new LayeredCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remoteCacheManager.getCache(name),
+                this::publishInvalidation);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = instanceId + DELIMITER + cacheName + DELIMITER + (key == null ? "" : key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파 실패시 다른 인스턴스 L1 은 TTL 로 만료된다
+            log.error("cache invalidation publish 실패, cacheName: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        LayeredCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
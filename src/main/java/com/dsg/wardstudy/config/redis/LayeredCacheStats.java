@@ -0,0 +1,41 @@
+package com.dsg.wardstudy.config.redis;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 캐시별 hit/miss 현황 (인스턴스 기동 이후 누적)
+ */
+@Getter
+@ToString
+public class LayeredCacheStats {
+
+    private final String cacheName;
+    private final long localHits;
+    private final long remoteHits;
+    private final long misses;
+    private final long localSize;
+    private final double hitRate;
+
+    @Builder
+    public LayeredCacheStats(String cacheName, long localHits, long remoteHits, long misses, long localSize) {
+        this.cacheName = cacheName;
+        this.localHits = localHits;
+        this.remoteHits = remoteHits;
+        this.misses = misses;
+        this.localSize = localSize;
+        long total = localHits + remoteHits + misses;
+        this.hitRate = total == 0 ? 0.0 : (double) (localHits + remoteHits) / total;
+    }
+
+    public static LayeredCacheStats of(LayeredCache cache) {
+        return LayeredCacheStats.builder()
+                .cacheName(cache.getName())
+                .localHits(cache.getLocalHits().sum())
+                .remoteHits(cache.getRemoteHits().sum())
+                .misses(cache.getMisses().sum())
+                .localSize(cache.localSize())
+                .build();
+    }
+}
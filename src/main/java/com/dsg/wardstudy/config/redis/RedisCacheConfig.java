@@ -5,11 +5,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -26,6 +30,12 @@ public class RedisCacheConfig {
     @Value("${spring.redis.cache.port}")
     private int redisCachePort;
 
+    @Value("${app.cache.local.max-size:1000}")
+    private long localCacheMaxSize;
+
+    @Value("${app.cache.local.ttl-seconds:60}")
+    private long localCacheTtlSeconds;
+
 
     // Creating Connection with Redis cache
     @Bean(name = "redisCacheConnectionFactory")
@@ -41,7 +51,8 @@ public class RedisCacheConfig {
 
     /**
      * Redis Cache 설정
-     * cache expire : 하루 (StudyGroupList, ReservationList)
+     * cache expire : 7일 (StudyGroupList, ReservationList)
+     * 변경시 CacheInvalidationListener 에서 해당 키만 삭제하므로 TTL 을 길게 둔다
      */
     @Bean
     public RedisCacheManager redisCacheManager(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory redisConnectionFactory) {
@@ -54,7 +65,7 @@ public class RedisCacheConfig {
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair
                                 .fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .entryTtl(Duration.ofDays(1L));
+                .entryTtl(Duration.ofDays(7L));
 
         return RedisCacheManager
                 .RedisCacheManagerBuilder
@@ -62,4 +73,32 @@ public class RedisCacheConfig {
                 .cacheDefaults(redisCacheConfiguration)
                 .build();
     }
+
+    /**
+     * 로컬(Caffeine) + Redis 2단 캐시
+     * 로컬 캐시는 크기/TTL 로 제한하고, evict 시 다른 인스턴스 로컬 캐시는 pub/sub 으로 삭제
+     */
+    @Primary
+    @Bean
+    public LayeredCacheManager layeredCacheManager(
+            RedisCacheManager redisCacheManager,
+            @Qualifier("redisCacheConnectionFactory") RedisConnectionFactory redisConnectionFactory) {
+
+        return new LayeredCacheManager(
+                redisCacheManager,
+                new StringRedisTemplate(redisConnectionFactory),
+                localCacheMaxSize,
+                Duration.ofSeconds(localCacheTtlSeconds));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier("redisCacheConnectionFactory") RedisConnectionFactory redisConnectionFactory,
+            LayeredCacheManager layeredCacheManager) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(layeredCacheManager, new ChannelTopic(LayeredCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
@@ -3,4 +3,6 @@ package com.dsg.wardstudy.config.redis;
 public class RedisCacheKey {
     public static final String STUDY_GROUP_LIST = "studyGroupList_userId";
     public static final String RESERVATION_LIST = "reservationList_roomId";
+    public static final String RESERVATION_USER_LIST = "reservationList_userId";
+    public static final String RESERVATION_DAY_BUCKET = "reservationList_roomId_day";
 }
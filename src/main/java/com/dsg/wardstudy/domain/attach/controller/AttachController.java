@@ -1,27 +1,25 @@
 package com.dsg.wardstudy.domain.attach.controller;
 
 import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
+import com.dsg.wardstudy.domain.attach.dto.AttachUploadResult;
 import com.dsg.wardstudy.domain.attach.service.AttachService;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Bucket;
-import com.google.firebase.cloud.StorageClient;
+import com.dsg.wardstudy.domain.attach.service.AttachUploadService;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -29,9 +27,8 @@ import java.util.UUID;
 public class AttachController {
 
     private final AttachService attachService;
-
-    @Value("${app.firebase-bucket}")
-    private String uploadPath;
+    private final AttachUploadService attachUploadService;
+    private final ThumbnailService thumbnailService;
 
     /**
      * 스터디그룹 게시글 당 파일첨부 리스트 가져오기
@@ -48,69 +45,29 @@ public class AttachController {
 
 
     /**
-     * (다중)파일업로드
-     * @param uploadFile (다중)파일
-     * @return 첨부파일 리스트
+     * 첨부 이미지 썸네일 (uuid 마다 내용이 바뀌지 않으므로 오래 캐시)
+     * @param uuid 첨부파일 uuid
+     * @param size 썸네일 크기 (app.attach.thumbnail.sizes 중 하나)
      */
-    @PostMapping("/attach/upload")
-    public ResponseEntity<List<AttachDTO>> uploadAjaxPost(@RequestParam("file") List<MultipartFile> uploadFile) {
-
-        List<AttachDTO> attachList = new ArrayList<>();
-
-        for (MultipartFile multipartFile : uploadFile) {
-
-            String uploadFileName = multipartFile.getOriginalFilename();
-            long size = multipartFile.getSize();
-            log.info("-------------------------------------");
-            log.info("Upload File Name: " + uploadFileName);
-            log.info("Upload File Size: " + size);
-
-            AttachDTO attachDTO = new AttachDTO();
-
-            uploadFileName = uploadFileName.substring(uploadFileName.lastIndexOf(File.separator) + 1);
-            log.info("only file name: " + uploadFileName);
-            attachDTO.setFileName(uploadFileName);
-
-            UUID uuid = UUID.randomUUID();
-
-            uploadFileName = uuid.toString() + "_" + uploadFileName;
-
-            try {
-                File saveFile = new File(uploadPath, uploadFileName);
-//                multipartFile.transferTo(saveFile);
-                Bucket bucket = StorageClient.getInstance().bucket(uploadPath);
-                InputStream content = new ByteArrayInputStream(multipartFile.getBytes());
-                Blob blob = bucket.create(uploadFileName , content, multipartFile.getContentType());
-                log.info("create blob: {}", blob);
-                attachDTO.setUuid(uuid.toString());
-                attachDTO.setUploadPath(uploadPath);
-
-                if (checkImageType(saveFile)) {
-                    attachDTO.setImage(true);
-                }
-
-                attachList.add(attachDTO);
-            } catch (Exception e) {
-                log.error(e.getMessage());
-            } // end catch
-        } // end for
-        return new ResponseEntity<>(attachList, HttpStatus.OK);
+    @GetMapping("/attach/thumbnail/{uuid}/{size}")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable("uuid") String uuid, @PathVariable("size") int size) {
+        InputStream thumbnail = thumbnailService.openThumbnail(uuid, size);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable")
+                .eTag("\"" + uuid + "-" + size + "\"")
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(new InputStreamResource(thumbnail));
     }
 
     /**
-     * 이미지 파일인지 유무 판단 메서드
-     * @param file
-     * @return boolean
+     * (다중)파일업로드 - 파일별 병렬 업로드
+     * @param uploadFile (다중)파일
+     * @return 파일별 업로드 결과 (요청 순서, 일부 실패해도 나머지 결과 포함)
      */
-    private boolean checkImageType(File file) {
-        try {
-            String contentType = Files.probeContentType(file.toPath());
-            log.info("checkImageType: {}", contentType);
-            return contentType.startsWith("image");
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return false;
+    @PostMapping("/attach/upload")
+    public ResponseEntity<List<AttachUploadResult>> uploadAjaxPost(@RequestParam("file") List<MultipartFile> uploadFile) {
+        log.info("uploadAjaxPost files: {}", uploadFile.size());
+        return new ResponseEntity<>(attachUploadService.upload(uploadFile), HttpStatus.OK);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.dsg.wardstudy.domain.attach.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 첨부파일 1건 업로드 결과 (일부 파일이 실패해도 나머지 결과는 그대로 내려줌)
+ */
+@Getter
+@ToString
+public class AttachUploadResult {
+
+    public enum Status {
+        SUCCESS, FAILED, TIMEOUT
+    }
+
+    private final String fileName;
+    private final Status status;
+    private final AttachDTO attach;
+    private final String message;
+
+    private AttachUploadResult(String fileName, Status status, AttachDTO attach, String message) {
+        this.fileName = fileName;
+        this.status = status;
+        this.attach = attach;
+        this.message = message;
+    }
+
+    public static AttachUploadResult success(AttachDTO attach) {
+        return new AttachUploadResult(attach.getFileName(), Status.SUCCESS, attach, null);
+    }
+
+    public static AttachUploadResult failed(String fileName, String message) {
+        return new AttachUploadResult(fileName, Status.FAILED, null, message);
+    }
+
+    public static AttachUploadResult timeout(String fileName) {
+        return new AttachUploadResult(fileName, Status.TIMEOUT, null, "upload timed out");
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -12,7 +12,7 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = "studyGroup")
-@Table(name = "attach")
+@Table(name = "attach", indexes = @Index(name = "idx_attach_uuid", columnList = "uuid"))
 public class Attach extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,230 @@
+package com.dsg.wardstudy.domain.attach.service;
+
+import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
+import com.dsg.wardstudy.domain.attach.dto.AttachUploadResult;
+import com.dsg.wardstudy.domain.attach.storage.AttachStorage;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 첨부파일 (다중) 업로드
+ * 파일마다 공용 업로드 스레드 풀(bounded)에서 병렬로 저장하고, 요청 하나가 동시에 쓰는 스레드 수는 Semaphore 로 제한한다.
+ * 파일별로 성공/실패/시간초과를 따로 돌려준다.
+ * 시간초과로 응답한 파일은 업로드를 취소(interrupt)하고, 그 뒤에 저장이 끝나더라도 저장된 객체를 지워서
+ * 클라이언트가 모르는 파일이 남지 않게 한다. (응답 후에는 multipart 임시 파일도 지워지므로 이어서 올릴 수 없음)
+ * (bean 은 AttachStorageConfig 에서 생성)
+ */
+@Log4j2
+public class AttachUploadService {
+
+    private final AttachStorage attachStorage;
+    private final ThumbnailService thumbnailService;
+    private final ExecutorService uploadExecutor;
+    // 요청 하나가 동시에 올리는 최대 파일 수
+    private final int maxConcurrencyPerRequest;
+    // 요청 전체 업로드 제한 시간
+    private final long timeoutMillis;
+
+    public AttachUploadService(AttachStorage attachStorage, ThumbnailService thumbnailService, ExecutorService uploadExecutor,
+                               int maxConcurrencyPerRequest, long timeoutMillis) {
+        this.attachStorage = attachStorage;
+        this.thumbnailService = thumbnailService;
+        this.uploadExecutor = uploadExecutor;
+        this.maxConcurrencyPerRequest = maxConcurrencyPerRequest;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 진행 중인 업로드는 끝까지 기다림
+    public void shutdown() {
+        uploadExecutor.shutdown();
+        try {
+            if (!uploadExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                uploadExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            uploadExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 업로드 결과는 요청한 파일 순서대로
+     */
+    public List<AttachUploadResult> upload(List<MultipartFile> files) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Semaphore permits = new Semaphore(maxConcurrencyPerRequest);
+        List<UploadTask> tasks = new ArrayList<>(files.size());
+
+        for (MultipartFile file : files) {
+            String fileName = toFileName(file);
+            UploadTask task = new UploadTask(fileName);
+            tasks.add(task);
+            if (!acquire(permits, deadline)) {
+                task.future = CompletableFuture.completedFuture(AttachUploadResult.timeout(fileName));
+                continue;
+            }
+            try {
+                task.future = uploadExecutor.submit(() -> {
+                    try {
+                        return uploadOne(file, task);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 공용 풀/큐가 가득 참
+                permits.release();
+                log.warn("attach upload rejected, fileName: {}", fileName);
+                task.future = CompletableFuture.completedFuture(AttachUploadResult.failed(fileName, "upload queue is full"));
+            }
+        }
+
+        List<AttachUploadResult> results = new ArrayList<>(tasks.size());
+        for (UploadTask task : tasks) {
+            results.add(await(task, deadline));
+        }
+        log.info("attach upload, files: {}, success: {}", files.size(), results.stream().filter(AttachUploadResult::isSuccess).count());
+        return results;
+    }
+
+    private AttachUploadResult uploadOne(MultipartFile file, UploadTask task) {
+        String fileName = task.fileName;
+        String uuid = UUID.randomUUID().toString();
+        String objectName = uuid + "_" + fileName;
+        try {
+            attachStorage.store(objectName, file);
+            // 이미 시간초과로 응답했으면 저장한 객체를 지움
+            if (!task.complete()) {
+                deleteQuietly(objectName);
+                return AttachUploadResult.timeout(fileName);
+            }
+            boolean image = checkImageType(file, fileName);
+            if (image) {
+                thumbnailService.generateAsync(uuid, file);
+            }
+            return AttachUploadResult.success(AttachDTO.builder()
+                    .uuid(uuid)
+                    .uploadPath(attachStorage.getLocation())
+                    .fileName(fileName)
+                    .image(image)
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            if (!task.complete()) {
+                // 취소(interrupt)로 중간에 끊긴 업로드 -> 일부만 저장된 객체가 있을 수 있음
+                deleteQuietly(objectName);
+                return AttachUploadResult.timeout(fileName);
+            }
+            log.error("attach upload 실패, fileName: {}", fileName, e);
+            return AttachUploadResult.failed(fileName, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(String objectName) {
+        try {
+            attachStorage.delete(objectName);
+            log.info("attach upload timed out, deleted: {}", objectName);
+        } catch (IOException | RuntimeException e) {
+            log.error("attach upload timed out, delete 실패: {}", objectName, e);
+        }
+    }
+
+    private boolean acquire(Semaphore permits, long deadline) {
+        try {
+            return permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AttachUploadResult await(UploadTask task, long deadline) {
+        try {
+            return task.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return abandon(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandon(task);
+        } catch (ExecutionException e) {
+            return AttachUploadResult.failed(task.fileName, e.getCause().getMessage());
+        }
+    }
+
+    // 시간초과: 업로드 취소. 업로드가 먼저 끝났으면(저장 완료) 그 결과를 그대로 돌려줌
+    private AttachUploadResult abandon(UploadTask task) {
+        if (task.abandon()) {
+            task.future.cancel(true);
+            return AttachUploadResult.timeout(task.fileName);
+        }
+        boolean interrupted = Thread.interrupted();
+        try {
+            return task.future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            return AttachUploadResult.timeout(task.fileName);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 파일 1건 업로드 상태
+     * 업로드 스레드(저장 완료)와 요청 스레드(시간초과) 중 먼저 결정한 쪽이 결과를 정한다.
+     */
+    private static class UploadTask {
+
+        private final String fileName;
+        private final AtomicBoolean decided = new AtomicBoolean();
+        private volatile Future<AttachUploadResult> future;
+
+        UploadTask(String fileName) {
+            this.fileName = fileName;
+        }
+
+        // 업로드 스레드: 저장 완료 (false 면 이미 시간초과로 응답함)
+        boolean complete() {
+            return decided.compareAndSet(false, true);
+        }
+
+        // 요청 스레드: 시간초과 (false 면 이미 저장 완료)
+        boolean abandon() {
+            return decided.compareAndSet(false, true);
+        }
+    }
+
+    // 경로를 뺀 파일명
+    private String toFileName(MultipartFile file) {
+        return StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(file.getOriginalFilename())));
+    }
+
+    /**
+     * 이미지 파일인지 유무 판단 메서드
+     * 업로드 Content-Type 으로 판단하고, 없거나 octet-stream 이면 파일명(확장자)으로 판단
+     */
+    private boolean checkImageType(MultipartFile file, String fileName) {
+        String contentType = file.getContentType();
+        if (contentType == null || MediaType.APPLICATION_OCTET_STREAM_VALUE.equals(contentType)) {
+            contentType = URLConnection.guessContentTypeFromName(fileName);
+        }
+        return contentType != null && contentType.startsWith("image/");
+    }
+}
@@ -0,0 +1,34 @@
+package com.dsg.wardstudy.domain.attach.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 첨부파일 저장소
+ * 운영은 Firebase(GCS) bucket, 로컬/테스트는 파일시스템 (app.attach.storage)
+ */
+public interface AttachStorage {
+
+    /**
+     * 파일 내용을 stream 으로 저장 (호출 스레드에서 블로킹)
+     * @param objectName 저장 이름 (uuid_파일명)
+     */
+    void store(String objectName, MultipartFile file) throws IOException;
+
+    /**
+     * 저장된 파일 읽기 (없으면 FileNotFoundException)
+     */
+    InputStream open(String objectName) throws IOException;
+
+    /**
+     * 저장된 파일 삭제 (없으면 무시)
+     */
+    void delete(String objectName) throws IOException;
+
+    /**
+     * AttachDTO.uploadPath 로 내려주는 저장 위치 (bucket 이름 / 폴더)
+     */
+    String getLocation();
+}
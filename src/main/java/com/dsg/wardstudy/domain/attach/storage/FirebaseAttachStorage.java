@@ -0,0 +1,55 @@
+package com.dsg.wardstudy.domain.attach.storage;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Bucket;
+import com.google.firebase.cloud.StorageClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+
+/**
+ * Firebase Storage(GCS) 첨부파일 저장소
+ * multipart 내용을 byte[] 로 올리지 않고 InputStream 그대로 업로드한다.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class FirebaseAttachStorage implements AttachStorage {
+
+    private final String bucketName;
+
+    @Override
+    public void store(String objectName, MultipartFile file) throws IOException {
+        Bucket bucket = StorageClient.getInstance().bucket(bucketName);
+        try (InputStream content = file.getInputStream()) {
+            Blob blob = bucket.create(objectName, content, file.getContentType());
+            log.info("create blob: {}", blob.getName());
+        }
+    }
+
+    @Override
+    public InputStream open(String objectName) throws IOException {
+        Blob blob = StorageClient.getInstance().bucket(bucketName).get(objectName);
+        if (blob == null) {
+            throw new FileNotFoundException(objectName);
+        }
+        return Channels.newInputStream(blob.reader());
+    }
+
+    @Override
+    public void delete(String objectName) {
+        Blob blob = StorageClient.getInstance().bucket(bucketName).get(objectName);
+        if (blob != null && blob.delete()) {
+            log.info("delete blob: {}", objectName);
+        }
+    }
+
+    @Override
+    public String getLocation() {
+        return bucketName;
+    }
+}
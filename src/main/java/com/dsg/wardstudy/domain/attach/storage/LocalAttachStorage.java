@@ -0,0 +1,55 @@
+package com.dsg.wardstudy.domain.attach.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 파일시스템 첨부파일 저장소 (로컬 개발/테스트용)
+ */
+public class LocalAttachStorage implements AttachStorage {
+
+    private final Path root;
+
+    public LocalAttachStorage(String directory) throws IOException {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    @Override
+    public void store(String objectName, MultipartFile file) throws IOException {
+        file.transferTo(resolve(objectName));
+    }
+
+    @Override
+    public InputStream open(String objectName) throws IOException {
+        Path source = resolve(objectName);
+        if (!Files.exists(source)) {
+            throw new FileNotFoundException(objectName);
+        }
+        return Files.newInputStream(source);
+    }
+
+    @Override
+    public void delete(String objectName) throws IOException {
+        Files.deleteIfExists(resolve(objectName));
+    }
+
+    @Override
+    public String getLocation() {
+        return root.toString();
+    }
+
+    private Path resolve(String objectName) throws IOException {
+        Path target = root.resolve(objectName).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("invalid objectName: " + objectName);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,123 @@
+package com.dsg.wardstudy.domain.attach.thumbnail;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 썸네일 디스크 캐시 (전체 크기 제한 LRU)
+ * 파일 목록과 크기는 접근 순서 LinkedHashMap 으로 들고 있고, maxBytes 를 넘으면 가장 오래 안 쓴 파일부터 지운다.
+ * 기동 시 폴더에 남아 있는 파일을 수정 시각 순으로 다시 읽어들인다.
+ * 읽기는 경로가 아니라 lock 안에서 연 stream 으로 내준다. (evict 도 lock 안에서 지우므로, 이미 연 stream 은 파일이 지워져도 끝까지 읽힌다)
+ */
+@Log4j2
+public class ThumbnailCache {
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public ThumbnailCache(String directory, long maxBytes) throws IOException {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        Files.createDirectories(root);
+        load();
+    }
+
+    public synchronized Optional<InputStream> open(String key) throws IOException {
+        if (entries.get(key) == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.newInputStream(root.resolve(key)));
+        } catch (NoSuchFileException e) {
+            totalBytes -= entries.remove(key);
+            return Optional.empty();
+        }
+    }
+
+    // 임시 이름으로 쓰고 rename -> 읽는 쪽에서 덜 써진 파일을 보지 않음
+    public void put(String key, byte[] data) throws IOException {
+        Path path = root.resolve(key);
+        Path tmp = Files.createTempFile(root, key, TMP_SUFFIX);
+        try {
+            Files.write(tmp, data);
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        synchronized (this) {
+            Long previous = entries.put(key, (long) data.length);
+            totalBytes += data.length - (previous == null ? 0 : previous);
+            evict(key);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // 방금 넣은 항목은 남기고 오래된 순으로 삭제
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(root.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("thumbnail cache evict 실패, key: {}", eldest.getKey(), e);
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(root)) {
+            files = list.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        files.sort(Comparator.comparingLong(this::lastModified));
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(TMP_SUFFIX)) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            long size = Files.size(file);
+            entries.put(file.getFileName().toString(), size);
+            totalBytes += size;
+        }
+        evict(null);
+        log.info("thumbnail cache loaded, files: {}, bytes: {}", entries.size(), totalBytes);
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.dsg.wardstudy.domain.attach.thumbnail;
+
+import com.dsg.wardstudy.common.exception.ErrorCode;
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.domain.attach.entity.Attach;
+import com.dsg.wardstudy.domain.attach.storage.AttachStorage;
+import com.dsg.wardstudy.repository.attach.AttachRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 첨부 이미지 썸네일 (고정 크기 몇 종)
+ * 업로드 시 원본을 임시 파일로 복사해 두고 별도 스레드 풀에서 크기별 썸네일을 만들어 ThumbnailCache 에 넣는다.
+ * 캐시에 없으면 (아직 생성 전 / LRU 로 밀려남) 저장소 원본으로 그 자리에서 다시 만든다.
+ * (bean 은 AttachStorageConfig 에서 생성)
+ */
+@Log4j2
+public class ThumbnailService {
+
+    private final AttachStorage attachStorage;
+    private final AttachRepository attachRepository;
+    private final ThumbnailCache cache;
+    private final ExecutorService executor;
+    private final List<Integer> sizes;
+    private final Path tmpDir;
+
+    public ThumbnailService(AttachStorage attachStorage, AttachRepository attachRepository, ThumbnailCache cache,
+                            ExecutorService executor, List<Integer> sizes) throws IOException {
+        this.attachStorage = attachStorage;
+        this.attachRepository = attachRepository;
+        this.cache = cache;
+        this.executor = executor;
+        this.sizes = List.copyOf(sizes);
+        this.tmpDir = Files.createTempDirectory("thumbnail-src-");
+    }
+
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * 업로드 직후 썸네일 생성 예약 (요청이 끝나면 multipart 임시 파일이 지워지므로 먼저 복사)
+     */
+    public void generateAsync(String uuid, MultipartFile file) {
+        Path source;
+        try {
+            source = Files.createTempFile(tmpDir, uuid, ".src");
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, source, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("thumbnail source copy 실패, uuid: {}", uuid, e);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try (InputStream in = Files.newInputStream(source)) {
+                    generate(uuid, in);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("thumbnail 생성 실패, uuid: {}", uuid, e);
+                } finally {
+                    deleteQuietly(source);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 바쁘면 건너뜀 (처음 요청될 때 생성)
+            log.warn("thumbnail queue is full, uuid: {}", uuid);
+            deleteQuietly(source);
+        }
+    }
+
+    /**
+     * 썸네일 내용 (캐시에 없으면 원본으로 생성, 호출한 쪽에서 close)
+     */
+    public InputStream openThumbnail(String uuid, int size) {
+        if (!sizes.contains(size)) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "unsupported thumbnail size: " + size);
+        }
+        validateUuid(uuid);
+        try {
+            return cache.open(keyOf(uuid, size)).orElseGet(() -> generateFromStorage(uuid, size));
+        } catch (IOException e) {
+            log.error("thumbnail 읽기 실패, uuid: {}", uuid, e);
+            throw new WSApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 생성 중인 작업을 기다린 뒤 원본 임시 폴더 삭제
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        deleteTmpDir();
+    }
+
+    // 생성한 내용을 바로 돌려줌 (그 사이 LRU 로 밀려나도 다시 캐시를 읽지 않음)
+    private InputStream generateFromStorage(String uuid, int size) {
+        Attach attach = attachRepository.findByUuid(uuid)
+                .filter(Attach::isImage)
+                .orElseThrow(() -> new WSApiException(ErrorCode.NO_FOUND_ENTITY));
+
+        try (InputStream in = attachStorage.open(uuid + "_" + attach.getFileName())) {
+            Map<Integer, byte[]> thumbnails = generate(uuid, in);
+            if (thumbnails.isEmpty()) {
+                throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "not a readable image: " + uuid);
+            }
+            return new ByteArrayInputStream(thumbnails.get(size));
+        } catch (FileNotFoundException e) {
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "attach not found in storage: " + uuid);
+        } catch (IOException e) {
+            log.error("thumbnail 생성 실패, uuid: {}", uuid, e);
+            throw new WSApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 원본을 한 번만 디코딩해서 크기별 썸네일 생성
+     * @return 크기별 썸네일 (ImageIO 가 읽을 수 없는 형식이면 빈 map)
+     */
+    private Map<Integer, byte[]> generate(String uuid, InputStream in) throws IOException {
+        int largest = sizes.stream().mapToInt(Integer::intValue).max().orElse(0);
+        BufferedImage image = Thumbnails.read(in, largest);
+        if (image == null) {
+            return Map.of();
+        }
+        Map<Integer, byte[]> thumbnails = new HashMap<>();
+        for (int size : sizes) {
+            byte[] jpeg = Thumbnails.toJpeg(Thumbnails.fit(image, size));
+            cache.put(keyOf(uuid, size), jpeg);
+            thumbnails.put(size, jpeg);
+        }
+        log.debug("thumbnail 생성, uuid: {}, sizes: {}", uuid, sizes);
+        return thumbnails;
+    }
+
+    private String keyOf(String uuid, int size) {
+        return uuid + "_" + size + ".jpg";
+    }
+
+    // 캐시 파일 이름에 쓰이므로 uuid 형식만 허용
+    private void validateUuid(String uuid) {
+        try {
+            UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "invalid uuid: " + uuid);
+        }
+    }
+
+    private void deleteTmpDir() {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("thumbnail tmpDir delete 실패, path: {}", tmpDir, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("thumbnail source delete 실패, path: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.dsg.wardstudy.domain.file;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내용 주소(content-addressed) 파일 저장소
+ * 파일을 SHA-256 으로 식별해서 {upload-dir}/ab/cd/abcd... 에 한 번만 저장한다. (같은 내용은 업로드 횟수와 상관없이 1개)
+ * 같은 해시의 저장/삭제는 해시 단위 락(lock striping)으로 순서를 맞춘다. (JVM 내, 다중 인스턴스는 공유 스토리지 전제)
+ */
+@Log4j2
+@Component
+public class FileBlobStore {
+
+    private static final int STRIPES = 64;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path root;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public FileBlobStore(@Value("${app.file.upload-dir:./files-upload}") String uploadDir) throws IOException {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 업로드 내용을 읽으면서 SHA-256 계산 (multipart 임시 파일을 읽기만 하고 다시 쓰지 않음)
+    public String hash(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public Path pathOf(String contentHash) {
+        return root.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    /**
+     * 없을 때만 저장 (lockOf(contentHash) 를 잡은 상태에서 호출)
+     * @return 새로 저장했으면 true, 이미 있으면 (중복 업로드) false
+     */
+    public boolean storeIfAbsent(String contentHash, MultipartFile file) throws IOException {
+        Path blob = pathOf(contentHash);
+        if (Files.exists(blob)) {
+            return false;
+        }
+        Files.createDirectories(blob.getParent());
+        // 임시 이름으로 쓰고 rename -> 읽는 쪽에서 덜 써진 파일을 보지 않음
+        Path tmp = blob.resolveSibling(contentHash + "." + RandomStringUtils.randomAlphanumeric(8) + ".tmp");
+        try {
+            file.transferTo(tmp);
+            Files.move(tmp, blob, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return true;
+    }
+
+    // lockOf(contentHash) 를 잡은 상태에서 호출
+    public void delete(String contentHash) throws IOException {
+        if (Files.deleteIfExists(pathOf(contentHash))) {
+            log.info("blob deleted, contentHash: {}", contentHash);
+        }
+    }
+
+    public Lock lockOf(String contentHash) {
+        int h = contentHash.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (STRIPES - 1)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dsg.wardstudy.domain.file;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+
+/**
+ * 다운로드할 파일 (본문은 읽지 않고 경로만 넘겨서 응답 시 스트리밍)
+ */
+@Getter
+@ToString
+public class FileContent {
+
+    private final String name;
+    private final String type;
+    private final long size;
+    private final Path path;
+    // 조건부 요청(If-None-Match / If-Range) 비교용
+    private final String eTag;
+    private final long lastModified;
+
+    @Builder
+    public FileContent(String name, String type, long size, Path path, String eTag, long lastModified) {
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.path = path;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+}
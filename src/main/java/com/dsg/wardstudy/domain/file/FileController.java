@@ -1,14 +1,24 @@
 package com.dsg.wardstudy.domain.file;
 
+import com.dsg.wardstudy.common.utils.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 @Log4j2
 @RestController
@@ -25,15 +35,77 @@ public class FileController {
         return ResponseEntity.status(HttpStatus.OK).body(storageService.uploadImageToFileSystem(file));
     }
 
-    // 다운로드
+    // 다운로드 (파일 -> 응답 스트림으로 바로 전송)
+    // Range 요청은 206 으로 요청 구간만, ETag/Last-Modified 가 같으면 304
     @GetMapping("/download/{fileCodeName}")
-    public ResponseEntity<?> downloadImage(@PathVariable("fileCodeName") String fileCodeName) throws IOException {
-        log.info("file download fileCodeName: {}", fileCodeName);
-//        byte[] downloadImage = storageService.downloadImage(fileName);
-        byte[] downloadImage = storageService.downloadImageFromFileSystem(fileCodeName);
-
-        return ResponseEntity.status(HttpStatus.OK)
-                .contentType(MediaType.valueOf("image/png"))
-                .body(downloadImage);
+    public ResponseEntity<StreamingResponseBody> downloadImage(@PathVariable("fileCodeName") String fileCodeName,
+                                                               @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                                                               @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                                                               WebRequest webRequest) throws IOException {
+        log.info("file download fileCodeName: {}, range: {}", fileCodeName, rangeHeader);
+        FileContent content = storageService.downloadImageFromFileSystem(fileCodeName);
+
+        if (webRequest.checkNotModified(content.getETag(), content.getLastModified())) {
+            // 304 상태와 ETag/Last-Modified 헤더는 checkNotModified 가 이미 설정
+            return null;
+        }
+
+        // If-Range 가 현재 파일과 다르면 (파일이 바뀜) Range 무시하고 전체 전송
+        FileRange range = isIfRangeMatched(ifRange, content) ? FileRange.parse(rangeHeader, content.getSize()) : null;
+        if (range != null && !range.isSatisfiable()) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, range.toContentRange(content.getSize()))
+                    .build();
+        }
+
+        long start = range == null ? 0 : range.getStart();
+        long length = range == null ? content.getSize() : range.getLength();
+        StreamingResponseBody body = out -> FileUtils.transferTo(content.getPath(), start, length, out);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(range == null ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT)
+                .contentType(toMediaType(content.getType()))
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.inline().filename(content.getName(), StandardCharsets.UTF_8).build().toString());
+        if (range != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, range.toContentRange(content.getSize()));
+        }
+        return builder.body(body);
+    }
+
+    // 삭제
+    @DeleteMapping("/{fileCodeName}")
+    public ResponseEntity<Void> delete(@PathVariable("fileCodeName") String fileCodeName) throws IOException {
+        log.info("file delete fileCodeName: {}", fileCodeName);
+        storageService.deleteFromFileSystem(fileCodeName);
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isIfRangeMatched(String ifRange, FileContent content) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(content.getETag());
+        }
+        try {
+            // HTTP-date 는 초 단위
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return content.getLastModified() / 1000 == since / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private MediaType toMediaType(String type) {
+        if (type == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(type);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
     }
 }
@@ -1,16 +1,18 @@
 package com.dsg.wardstudy.domain.file;
 
+import com.dsg.wardstudy.domain.file.codec.FileCodec;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.sql.Blob;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "file_data")
+@Table(name = "file_data", indexes = @Index(name = "idx_file_data_content_hash", columnList = "content_hash"))
 public class FileData {
 
     @Id
@@ -25,16 +27,29 @@ public class FileData {
 
     private String filePath;
 
+    // 파일 내용 SHA-256 (같은 값의 행 수 = 저장 파일 참조 수)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // DB 저장 파일 압축 방식 (imageData 를 읽을 때 풀어야 하는 형식)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "codec", length = 20)
+    private FileCodec codec;
+
+    // 통째로 byte[] 로 올리지 않고 stream 으로 쓰고 읽음
     @Lob
-    @Column(name = "imagedata", length = 1000)
-    private byte[] imageData;
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "imagedata", columnDefinition = "longblob")
+    private Blob imageData;
 
     @Builder
-    public FileData(String name, String type, long size, String filePath, byte[] imageData) {
+    public FileData(String name, String type, long size, String filePath, String contentHash, FileCodec codec, Blob imageData) {
         this.name = name;
         this.type = type;
         this.size = size;
         this.filePath = filePath;
+        this.contentHash = contentHash;
+        this.codec = codec;
         this.imageData = imageData;
     }
 }
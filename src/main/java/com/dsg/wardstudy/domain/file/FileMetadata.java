@@ -0,0 +1,31 @@
+package com.dsg.wardstudy.domain.file;
+
+import com.dsg.wardstudy.domain.file.codec.FileCodec;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 파일 메타데이터 projection (imagedata BLOB 은 조회하지 않음)
+ */
+@Getter
+@ToString
+public class FileMetadata {
+
+    private final Long id;
+    private final String name;
+    private final String type;
+    private final long size;
+    private final String filePath;
+    private final String contentHash;
+    private final FileCodec codec;
+
+    public FileMetadata(Long id, String name, String type, long size, String filePath, String contentHash, FileCodec codec) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.filePath = filePath;
+        this.contentHash = contentHash;
+        this.codec = codec;
+    }
+}
@@ -0,0 +1,66 @@
+package com.dsg.wardstudy.domain.file;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpRange;
+
+import java.util.List;
+
+/**
+ * 다운로드 요청의 Range 헤더 해석 결과 (단일 구간만 지원)
+ * 형식이 잘못됐거나 여러 구간이면 Range 를 무시하고 전체를 보낸다. (RFC 7233 허용)
+ */
+@Getter
+@ToString
+public class FileRange {
+
+    private final long start;
+    private final long end;       // 포함
+    private final boolean satisfiable;
+
+    private FileRange(long start, long end, boolean satisfiable) {
+        this.start = start;
+        this.end = end;
+        this.satisfiable = satisfiable;
+    }
+
+    /**
+     * @return Range 를 적용하지 않을 때 null
+     */
+    public static FileRange parse(String rangeHeader, long size) {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+
+        HttpRange range = ranges.get(0);
+        if (size == 0) {
+            return new FileRange(0, -1, false);
+        }
+        long start = range.getRangeStart(size);
+        if (start >= size) {
+            return new FileRange(0, -1, false);
+        }
+        long end = Math.min(range.getRangeEnd(size), size - 1);
+        return new FileRange(start, end, true);
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    // Content-Range 헤더 값
+    public String toContentRange(long size) {
+        return satisfiable
+                ? "bytes " + start + "-" + end + "/" + size
+                : "bytes */" + size;
+    }
+}
@@ -1,10 +1,31 @@
 package com.dsg.wardstudy.domain.file;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Blob;
 import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<FileData, Long> {
 
-    Optional<FileData> findByName(String fileName);
+    // 메타데이터만 조회 (BLOB 제외)
+    @Query("select new com.dsg.wardstudy.domain.file.FileMetadata(f.id, f.name, f.type, f.size, f.filePath, f.contentHash, f.codec)" +
+            " from FileData f where f.name = :name")
+    Optional<FileMetadata> findMetadataByName(@Param("name") String name);
+
+    // 내용만 조회 (트랜잭션 안에서 stream 으로 읽어야 함)
+    @Query("select f.imageData from FileData f where f.id = :id")
+    Optional<Blob> findContentById(@Param("id") Long id);
+
+    // 엔티티(BLOB 포함)를 읽지 않고 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from FileData f where f.id = :id")
+    int deleteMetadataById(@Param("id") Long id);
+
+    // 저장 파일 참조 수
+    long countByContentHash(String contentHash);
 }
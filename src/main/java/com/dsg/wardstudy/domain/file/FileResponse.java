@@ -15,15 +15,15 @@ public class FileResponse {
 
     private String type;
     private long size;
-    private byte[] imageData;
+    private String contentHash;
 
     public static FileResponse of(FileData fileData) {
         return FileResponse.builder()
                 .fileName(fileData.getName())
                 .type(fileData.getType())
                 .size(fileData.getSize())
+                .contentHash(fileData.getContentHash())
                 .downloadUri(fileData.getFilePath())
-                .imageData(fileData.getImageData())
                 .build();
     }
 }
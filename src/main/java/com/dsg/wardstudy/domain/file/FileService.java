@@ -3,14 +3,24 @@ package com.dsg.wardstudy.domain.file;
 import com.dsg.wardstudy.common.exception.ErrorCode;
 import com.dsg.wardstudy.common.exception.WSApiException;
 import com.dsg.wardstudy.common.utils.FileUtils;
+import com.dsg.wardstudy.domain.file.codec.FileCodec;
+import com.dsg.wardstudy.domain.file.codec.FileCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.jdbc.BlobProxy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.concurrent.locks.Lock;
 
 
 @Log4j2
@@ -18,59 +28,169 @@ import java.nio.file.Files;
 @RequiredArgsConstructor
 public class FileService {
 
-    private final String FOLDER_PATH = "C:\\WebStudy\\f-lab\\ward-study-reservation\\Files-Upload\\";
     private final FileRepository storageRepository;
+    private final FileBlobStore blobStore;
+    private final FileCodecs fileCodecs;
 
-    // DB에 저장
+    // DB에 저장 (codec 으로 압축하면서 임시 파일에 쓰고, 그 파일을 stream 으로 BLOB 에 넣음)
+    @Transactional
     public FileResponse upload(MultipartFile file) throws IOException {
-        log.info("upload file: {}", file);
-        FileData fileData = storageRepository.save(
+        FileCodec codec = chooseCodec(file);
+        log.info("upload file: {}, codec: {}", file.getOriginalFilename(), codec);
+        if (codec == FileCodec.NONE) {
+            try (InputStream content = file.getInputStream()) {
+                return FileResponse.of(saveToDb(file, codec, content, file.getSize()));
+            }
+        }
+
+        Path encoded = Files.createTempFile("file-upload-", ".tmp");
+        try {
+            try (InputStream in = file.getInputStream();
+                 OutputStream out = fileCodecs.encode(codec, Files.newOutputStream(encoded))) {
+                in.transferTo(out);
+            }
+            try (InputStream content = Files.newInputStream(encoded)) {
+                return FileResponse.of(saveToDb(file, codec, content, Files.size(encoded)));
+            }
+        } finally {
+            Files.deleteIfExists(encoded);
+        }
+    }
+
+    // DB 저장 파일을 풀면서 out 으로 전송 (메타데이터와 내용을 따로 조회, BLOB 을 읽는 동안 트랜잭션 유지)
+    @Transactional(readOnly = true)
+    public void downloadImage(String fileName, OutputStream out) throws IOException {
+        FileMetadata metadata = findMetadata(fileName);
+        Blob content = storageRepository.findContentById(metadata.getId())
+                .orElseThrow(() -> new WSApiException(ErrorCode.NO_FOUND_ENTITY, "no content: " + fileName));
+
+        // codec 컬럼 추가 전에 저장된 행은 모두 deflate 압축
+        FileCodec codec = metadata.getCodec() != null ? metadata.getCodec() : FileCodec.DEFLATE;
+        log.info("download file: {}, codec: {}", metadata.getName(), codec);
+
+        try (InputStream in = fileCodecs.decode(codec, content.getBinaryStream())) {
+            in.transferTo(out);
+        } catch (SQLException e) {
+            throw new IOException("imagedata read failed, fileName: " + fileName, e);
+        }
+    }
+
+    private FileCodec chooseCodec(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            byte[] sample = in.readNBytes(fileCodecs.getSampleBytes());
+            return fileCodecs.choose(file.getContentType(), sample, sample.length);
+        }
+    }
+
+    private FileData saveToDb(MultipartFile file, FileCodec codec, InputStream content, long contentLength) {
+        // IDENTITY 라 save 시점에 insert -> content 를 여기서 다 읽음
+        return storageRepository.saveAndFlush(
                 FileData.builder()
                         .name(file.getOriginalFilename())
                         .type(file.getContentType())
                         .size(file.getSize())
-                        .imageData(FileUtils.compressImage(file.getBytes()))
+                        .codec(codec)
+                        .imageData(BlobProxy.generateProxy(content, contentLength))
                         .build());
-
-        return FileResponse.of(fileData);
     }
 
-    public byte[] downloadImage(String fileName) {
-        FileData fileData = storageRepository.findByName(fileName)
-                .orElseThrow(() -> new WSApiException(ErrorCode.NO_FOUND_ENTITY));
+    // 파일경로에 저장
+    // 업로드 (내용 해시로 저장, 같은 내용이 이미 있으면 해시 계산만 하고 파일은 다시 쓰지 않음)
+    public FileResponse uploadImageToFileSystem(MultipartFile file) throws IOException {
+        String fileCodeName = FileUtils.getFileCodeName(file);
+        String contentHash = blobStore.hash(file);
+        log.info("upload fileCodeName: {}, contentHash: {}", fileCodeName, contentHash);
+
+        Lock lock = blobStore.lockOf(contentHash);
+        lock.lock();
+        try {
+            boolean stored = blobStore.storeIfAbsent(contentHash, file);
+            try {
+                FileData fileData = storageRepository.save(
+                        FileData.builder()
+                                .name(fileCodeName)
+                                .type(file.getContentType())
+                                .size(file.getSize())
+                                .filePath(blobStore.pathOf(contentHash).toString())
+                                .contentHash(contentHash)
+                                .build()
+                );
+                return FileResponse.of(fileData);
+            } catch (RuntimeException e) {
+                // 이번 업로드로 새로 쓴 파일만 정리
+                if (stored) {
+                    blobStore.delete(contentHash);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        log.info("download fileData: {}", fileData);
+    // 삭제 (마지막 참조가 지워질 때 저장 파일도 삭제)
+    public void deleteFromFileSystem(String fileCodeName) throws IOException {
+        FileMetadata metadata = findMetadata(fileCodeName);
+        String contentHash = metadata.getContentHash();
+        if (contentHash == null) {
+            // 해시 저장 이전에 올린 파일
+            storageRepository.deleteMetadataById(metadata.getId());
+            if (metadata.getFilePath() != null) {
+                Files.deleteIfExists(Paths.get(metadata.getFilePath()));
+            }
+            return;
+        }
 
-        return FileUtils.decompressImage(fileData.getImageData());
+        Lock lock = blobStore.lockOf(contentHash);
+        lock.lock();
+        try {
+            storageRepository.deleteMetadataById(metadata.getId());
+            long references = storageRepository.countByContentHash(contentHash);
+            log.info("delete fileCodeName: {}, contentHash: {}, remaining references: {}", fileCodeName, contentHash, references);
+            if (references == 0) {
+                blobStore.delete(contentHash);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
-    // 파일경로에 저장
-    // 업로드
-    public FileResponse uploadImageToFileSystem(MultipartFile file) throws IOException {
-        String fileCodeName = FileUtils.getFileCodeName(file);
-        log.info("upload fileCodeName: {}", fileCodeName);
-        String filePath = FOLDER_PATH + fileCodeName;
+    // 다운로드 (본문은 응답 시 스트리밍)
+    public FileContent downloadImageFromFileSystem(String fileCodeName) throws IOException {
+        FileMetadata metadata = findMetadata(fileCodeName);
+        if (metadata.getFilePath() == null) {
+            // DB 에 저장된 파일
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "file not found: " + fileCodeName);
+        }
 
-        FileData fileData = storageRepository.save(
-                FileData.builder()
-                        .name(fileCodeName)
-                        .type(file.getContentType())
-                        .size(file.getSize())
-                        .filePath(filePath)
-                        .build()
-        );
-        file.transferTo(new File(filePath));
-        return FileResponse.of(fileData);
+        Path filePath = Paths.get(metadata.getFilePath());
+        log.info("download filePath: {}", filePath);
+        if (!Files.isReadable(filePath)) {
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "file not found: " + fileCodeName);
+        }
+        long size = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        return FileContent.builder()
+                .name(metadata.getName())
+                .type(metadata.getType())
+                .size(size)
+                .path(filePath)
+                .eTag(toETag(metadata, size, lastModified))
+                .lastModified(lastModified)
+                .build();
     }
 
-    // 다운로드
-    public byte[] downloadImageFromFileSystem(String fileCodeName) throws IOException {
-        FileData fileData = storageRepository.findByName(fileCodeName)
+    private FileMetadata findMetadata(String fileName) {
+        return storageRepository.findMetadataByName(fileName)
                 .orElseThrow(() -> new WSApiException(ErrorCode.NO_FOUND_ENTITY));
+    }
 
-        String filePath = fileData.getFilePath();
-        log.info("download filePath: {}", filePath);
-        return Files.readAllBytes(new File(filePath).toPath());
+    // 내용 해시가 있으면 해시, 없으면 파일 id + 크기 + 수정 시각 -> 내용이 바뀌면 달라지는 strong ETag
+    private String toETag(FileMetadata metadata, long size, long lastModified) {
+        if (metadata.getContentHash() != null) {
+            return "\"" + metadata.getContentHash() + "\"";
+        }
+        return "\"" + metadata.getId() + "-" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
     }
 
 }
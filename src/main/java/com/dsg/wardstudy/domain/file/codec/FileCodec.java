@@ -0,0 +1,25 @@
+package com.dsg.wardstudy.domain.file.codec;
+
+import java.util.zip.Deflater;
+
+/**
+ * DB 저장 파일 압축 방식
+ */
+public enum FileCodec {
+
+    // 압축 안 함 (이미 압축된 형식 / 압축 효과가 적은 내용)
+    NONE(0),
+    // 빠른 압축 (압축률보다 CPU 우선)
+    DEFLATE_FAST(Deflater.BEST_SPEED),
+    DEFLATE(Deflater.DEFAULT_COMPRESSION);
+
+    private final int level;
+
+    FileCodec(int level) {
+        this.level = level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,182 @@
+package com.dsg.wardstudy.domain.file.codec;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * DB 저장 파일 압축/해제 (스트리밍)
+ * Deflater/Inflater 는 native 메모리를 잡으므로 매번 만들지 않고 pool 에서 빌려 쓰고 stream close 시 돌려준다.
+ * 이미 압축된 형식(이미지/동영상/압축파일)이거나 앞부분 샘플의 압축률이 나쁘면 압축하지 않는다.
+ */
+@Log4j2
+@Component
+public class FileCodecs {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int POOL_SIZE = 16;
+
+    // 이미 압축된 형식
+    private static final Set<String> INCOMPRESSIBLE_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/gif", "image/webp",
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed",
+            "application/pdf");
+    private static final Set<String> INCOMPRESSIBLE_TYPE_PREFIXES = Set.of("video/", "audio/");
+
+    private final FileCodec defaultCodec;
+    // 압축 여부 판단용 샘플 크기
+    private final int sampleBytes;
+    // 샘플 압축 후 크기 / 원본 크기 가 이 값 이상이면 압축하지 않음
+    private final double minRatio;
+
+    private final BlockingQueue<Deflater> fastDeflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public FileCodecs(@Value("${app.file.codec:DEFLATE}") FileCodec defaultCodec,
+                      @Value("${app.file.codec-sample-bytes:65536}") int sampleBytes,
+                      @Value("${app.file.codec-min-ratio:0.9}") double minRatio) {
+        this.defaultCodec = defaultCodec;
+        this.sampleBytes = sampleBytes;
+        this.minRatio = minRatio;
+    }
+
+    /**
+     * 저장할 때 쓸 codec 결정
+     * @param sample 내용 앞부분 (sampleBytes 이하)
+     */
+    public FileCodec choose(String contentType, byte[] sample, int sampleLength) {
+        if (defaultCodec == FileCodec.NONE || isIncompressibleType(contentType) || sampleLength == 0) {
+            return FileCodec.NONE;
+        }
+        Deflater deflater = borrowDeflater(FileCodec.DEFLATE_FAST);
+        try {
+            deflater.setInput(sample, 0, sampleLength);
+            deflater.finish();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long compressed = 0;
+            while (!deflater.finished()) {
+                compressed += deflater.deflate(buffer);
+            }
+            double ratio = (double) compressed / sampleLength;
+            log.debug("codec sample, contentType: {}, ratio: {}", contentType, ratio);
+            return ratio >= minRatio ? FileCodec.NONE : defaultCodec;
+        } finally {
+            releaseDeflater(FileCodec.DEFLATE_FAST, deflater);
+        }
+    }
+
+    public int getSampleBytes() {
+        return sampleBytes;
+    }
+
+    // out 으로 압축해서 쓰는 stream (close 시 deflater 반납, out 도 닫힘)
+    public OutputStream encode(FileCodec codec, OutputStream out) {
+        if (codec == FileCodec.NONE) {
+            return out;
+        }
+        Deflater deflater = borrowDeflater(codec);
+        return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    releaseDeflater(codec, deflater);
+                }
+            }
+        };
+    }
+
+    // in 을 풀어서 읽는 stream (close 시 inflater 반납, in 도 닫힘)
+    public InputStream decode(FileCodec codec, InputStream in) {
+        if (codec == FileCodec.NONE) {
+            return in;
+        }
+        Inflater inflater = borrowInflater();
+        InflaterInputStream inflating = new InflaterInputStream(in, inflater, BUFFER_SIZE);
+        return new FilterInputStream(inflating) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    releaseInflater(inflater);
+                }
+            }
+        };
+    }
+
+    private boolean isIncompressibleType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        int parameter = type.indexOf(';');
+        if (parameter >= 0) {
+            type = type.substring(0, parameter).trim();
+        }
+        if (INCOMPRESSIBLE_TYPES.contains(type)) {
+            return true;
+        }
+        for (String prefix : INCOMPRESSIBLE_TYPE_PREFIXES) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Deflater borrowDeflater(FileCodec codec) {
+        Deflater deflater = deflaterPool(codec).poll();
+        return deflater != null ? deflater : new Deflater(codec.getLevel());
+    }
+
+    private void releaseDeflater(FileCodec codec, Deflater deflater) {
+        deflater.reset();
+        if (!deflaterPool(codec).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private BlockingQueue<Deflater> deflaterPool(FileCodec codec) {
+        return codec == FileCodec.DEFLATE_FAST ? fastDeflaters : deflaters;
+    }
+
+    private Inflater borrowInflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater();
+    }
+
+    private void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dsg.wardstudy.domain.reservation.cache;
+
+import com.dsg.wardstudy.domain.reservation.dto.ReservationDetails;
+import com.dsg.wardstudy.repository.reservation.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_DAY_BUCKET;
+
+/**
+ * 룸별 일자 단위 예약 목록 캐시 (예약 시작일 기준 버킷)
+ * 임의의 시간 구간 조회는 구간에 걸친 일자 버킷을 모아 걸러서 응답한다.
+ * 예약 변경시 바뀐 일자 버킷만 삭제한다. (CacheInvalidationListener)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ReservationDayBucketCache {
+
+    private final CacheManager cacheManager;
+    private final ReservationRepository reservationRepository;
+
+    public static String key(Long roomId, LocalDate day) {
+        return roomId + ":" + day;
+    }
+
+    /**
+     * 해당 룸, 일자에 시작하는 예약 목록 (시작시간 순)
+     */
+    public List<ReservationDetails> get(Long roomId, LocalDate day) {
+        Cache cache = cacheManager.getCache(RESERVATION_DAY_BUCKET);
+        if (cache == null) {
+            return load(roomId, day);
+        }
+        return cache.get(key(roomId, day), () -> load(roomId, day));
+    }
+
+    private List<ReservationDetails> load(Long roomId, LocalDate day) {
+        log.info("reservation day bucket load, roomId: {}, day: {}", roomId, day);
+        return reservationRepository.findByRoomIdAndStartTimeRange(
+                        roomId, day.atStartOfDay(), day.plusDays(1).atStartOfDay()).stream()
+                .map(ReservationDetails::mapToDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.dsg.wardstudy.domain.reservation.controller;
 import com.dsg.wardstudy.common.auth.AuthUser;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationCommand;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationDetails;
+import com.dsg.wardstudy.domain.reservation.dto.RoomFreeSlot;
 import com.dsg.wardstudy.domain.reservation.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -39,6 +40,24 @@ public class ReservationController {
                 studyGroupId, roomId, registerReservation), HttpStatus.CREATED);
     }
 
+    // 일괄 예약 등록 (시간대 목록 또는 반복 예약)
+    @PostMapping("/study-group/{studyGroupId}/room/{roomId}/reservation/bulk")
+    public ResponseEntity<List<ReservationDetails>> registerBulk(
+            @PathVariable("studyGroupId") Long studyGroupId,
+            @PathVariable("roomId") Long roomId,
+            @RequestBody ReservationCommand.BulkRegisterReservation bulkRegisterReservation,
+            @AuthUser Long userId
+    ) {
+        log.info("reservation registerBulk, studyGroupId: {}, roomId: {}, request: {}",
+                studyGroupId,
+                roomId,
+                bulkRegisterReservation);
+        bulkRegisterReservation.setUserId(userId);
+
+        return new ResponseEntity<>(reservationService.registerBulk(
+                studyGroupId, roomId, bulkRegisterReservation), HttpStatus.CREATED);
+    }
+
     // 등록한 예약 상세 보기
     @GetMapping("/room/{roomId}/reservation/{reservationToken}")
     public ResponseEntity<ReservationDetails> getReservation(
@@ -64,6 +83,16 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getByRoomIdAndTimePeriod(roomId, startTime, endTime));
     }
 
+    // 해당 룸 일자별 빈 시간대 조회 (date: yyyy-MM-dd)
+    @GetMapping("/room/{roomId}/reservation/free-slots")
+    public ResponseEntity<List<RoomFreeSlot>> getFreeSlots(
+            @PathVariable("roomId") Long roomId,
+            @RequestParam(value = "date") String date
+    ) {
+        log.info("reservation getFreeSlots, roomId: {}, date: {}", roomId, date);
+        return ResponseEntity.ok(reservationService.getFreeSlots(roomId, date));
+    }
+
     // 해당 룸 예약 조회 startTime & endTime x
     @GetMapping("/room/{roomId}/reservation")
     public ResponseEntity<List<ReservationDetails>> getByRoomId(
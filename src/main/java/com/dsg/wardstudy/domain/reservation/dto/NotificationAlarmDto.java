@@ -1,6 +1,5 @@
 package com.dsg.wardstudy.domain.reservation.dto;
 
-import com.dsg.wardstudy.domain.reservation.entity.Reservation;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,16 +10,16 @@ import java.util.List;
 @NoArgsConstructor
 public class NotificationAlarmDto {
 
-    private String id;
+    private Long userId;
     private String email;
     private String userName;
-    private List<Reservation> reservations;
+    private List<ReservationAlarmItem> reservations;
 
 
 
     @Builder
-    public NotificationAlarmDto(String id, String email, String userName, List<Reservation> reservations) {
-        this.id = id;
+    public NotificationAlarmDto(Long userId, String email, String userName, List<ReservationAlarmItem> reservations) {
+        this.userId = userId;
         this.email = email;
         this.userName = userName;
         this.reservations = reservations;
@@ -0,0 +1,41 @@
+package com.dsg.wardstudy.domain.reservation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 대상 행 (예약 1건 x 수신자 1명)
+ * 알림 배치에서 reservation - user_group - users 조인 결과를 엔티티 로딩 없이 그대로 담는다.
+ */
+@Getter
+@ToString
+public class ReservationAlarmItem {
+
+    private final Long reservationId;
+    private final Long recipientId;
+    private final String recipientEmail;
+    private final String recipientName;
+    private final String studyGroupTitle;
+    private final String registerName;
+    private final String roomName;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    @Builder
+    public ReservationAlarmItem(Long reservationId, Long recipientId, String recipientEmail, String recipientName,
+                                String studyGroupTitle, String registerName, String roomName,
+                                LocalDateTime startTime, LocalDateTime endTime) {
+        this.reservationId = reservationId;
+        this.recipientId = recipientId;
+        this.recipientEmail = recipientEmail;
+        this.recipientName = recipientName;
+        this.studyGroupTitle = studyGroupTitle;
+        this.registerName = registerName;
+        this.roomName = roomName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
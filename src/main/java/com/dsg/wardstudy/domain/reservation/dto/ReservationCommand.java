@@ -7,6 +7,11 @@ import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
 import com.dsg.wardstudy.domain.user.entity.User;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 public class ReservationCommand {
 
     @Getter
@@ -27,6 +32,12 @@ public class ReservationCommand {
             this.endTime = endTime;
         }
 
+        void validate() {
+            requireTimes(startTime, endTime);
+            TimeParsingUtils.formatterLocalDateTime(startTime);
+            TimeParsingUtils.formatterLocalDateTime(endTime);
+        }
+
         public Reservation mapToEntity(User user, StudyGroup studyGroup, Room room) {
 
             return Reservation.builder()
@@ -77,4 +88,142 @@ public class ReservationCommand {
         }
     }
 
+    /**
+     * 일괄 예약 (slots 또는 recurrence 중 하나)
+     */
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    public static class BulkRegisterReservation {
+
+        private Long userId;
+
+        private List<Slot> slots;
+
+        private Recurrence recurrence;
+
+        @Builder
+        public BulkRegisterReservation(Long userId, List<Slot> slots, Recurrence recurrence) {
+            this.userId = userId;
+            this.slots = slots;
+            this.recurrence = recurrence;
+        }
+
+        /**
+         * 예약할 시간대 목록 (maxSize 를 넘으면 maxSize + 1 개까지만 만든다)
+         * 시간 값이 없으면 IllegalArgumentException, 형식이 틀리면 DateTimeParseException
+         */
+        public List<Slot> toSlots(int maxSize) {
+            List<Slot> result = new ArrayList<>();
+            if (slots != null) {
+                for (Slot slot : slots.subList(0, Math.min(slots.size(), maxSize + 1))) {
+                    if (slot == null) {
+                        throw new IllegalArgumentException("slot must not be null");
+                    }
+                    slot.validate();
+                    result.add(slot);
+                }
+            }
+            if (recurrence != null) {
+                result.addAll(recurrence.expand(maxSize + 1 - result.size()));
+            }
+            return result;
+        }
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    public static class Slot {
+
+        private String startTime;
+
+        private String endTime;
+
+        @Builder
+        public Slot(String startTime, String endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        void validate() {
+            requireTimes(startTime, endTime);
+            TimeParsingUtils.formatterLocalDateTime(startTime);
+            TimeParsingUtils.formatterLocalDateTime(endTime);
+        }
+
+        public Reservation mapToEntity(User user, StudyGroup studyGroup, Room room) {
+
+            return Reservation.builder()
+                    .startTime(TimeParsingUtils.formatterLocalDateTime(startTime))
+                    .endTime(TimeParsingUtils.formatterLocalDateTime(endTime))
+                    .user(user)
+                    .studyGroup(studyGroup)
+                    .room(room)
+                    .build();
+        }
+    }
+
+    /**
+     * 반복 예약
+     * 첫 예약(startTime ~ endTime)부터 intervalWeeks 주 간격으로 count 회 또는 until(yyyy-MM-dd) 까지
+     */
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    public static class Recurrence {
+
+        private String startTime;
+
+        private String endTime;
+
+        private Integer intervalWeeks;
+
+        private Integer count;
+
+        private String until;
+
+        @Builder
+        public Recurrence(String startTime, String endTime, Integer intervalWeeks, Integer count, String until) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.intervalWeeks = intervalWeeks;
+            this.count = count;
+            this.until = until;
+        }
+
+        List<Slot> expand(int limit) {
+            if (count == null && until == null) {
+                throw new IllegalArgumentException("recurrence requires count or until");
+            }
+            int interval = intervalWeeks == null ? 1 : intervalWeeks;
+            if (interval < 1) {
+                throw new IllegalArgumentException("intervalWeeks must be positive");
+            }
+            requireTimes(startTime, endTime);
+            LocalDateTime start = TimeParsingUtils.formatterLocalDateTime(startTime);
+            LocalDateTime end = TimeParsingUtils.formatterLocalDateTime(endTime);
+            LocalDate untilDate = until == null ? null : LocalDate.parse(until);
+
+            List<Slot> result = new ArrayList<>();
+            for (int i = 0; result.size() < limit && (count == null || i < count); i++) {
+                LocalDateTime s = start.plusWeeks((long) i * interval);
+                if (untilDate != null && s.toLocalDate().isAfter(untilDate)) {
+                    break;
+                }
+                result.add(new Slot(TimeParsingUtils.formatterString(s),
+                        TimeParsingUtils.formatterString(end.plusWeeks((long) i * interval))));
+            }
+            return result;
+        }
+    }
+
+    private static void requireTimes(String startTime, String endTime) {
+        if (startTime == null || endTime == null) {
+            throw new IllegalArgumentException("startTime and endTime are required");
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.dsg.wardstudy.domain.reservation.dto;
 
 import com.dsg.wardstudy.common.utils.TimeParsingUtils;
 import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Data;
@@ -58,4 +59,19 @@ public class ReservationDetails {
                 .roomName(reservation.getRoom().getName())
                 .build();
     }
+
+    // 연관 엔티티를 로딩하지 않고 권한 조회 결과로 매핑
+    public static ReservationDetails mapToDto(Reservation reservation, MembershipContext membershipContext) {
+        return ReservationDetails.builder()
+                .reservationToken(reservation.getReservationToken())
+                .startTime(TimeParsingUtils.formatterString(reservation.getStartTime()))
+                .endTime(TimeParsingUtils.formatterString(reservation.getEndTime()))
+                .registerId(membershipContext.getUserId())
+                .registerEmail(membershipContext.getUserEmail())
+                .studyGroupId(membershipContext.getStudyGroupId())
+                .studyGroupTitle(membershipContext.getStudyGroupTitle())
+                .roomId(membershipContext.getRoomId())
+                .roomName(membershipContext.getRoomName())
+                .build();
+    }
 }
@@ -0,0 +1,63 @@
+package com.dsg.wardstudy.domain.reservation.dto;
+
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 알림 Kafka 메시지 (key: reservationToken -> 같은 예약의 변경은 순서대로 소비)
+ * 일괄 등록은 메시지 한 건에 reservationIds 로 묶어서 보낸다. (단건이면 빈 목록)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+public class ReservationOutboxMessage {
+
+    private Long outboxId;
+    private ReservationChangedEvent.Type eventType;
+    private Long reservationId;
+    private List<Long> reservationIds = List.of();
+    private String reservationToken;
+    private Long roomId;
+    private Long studyGroupId;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startTime;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+
+    @Builder
+    public ReservationOutboxMessage(Long outboxId, ReservationChangedEvent.Type eventType, Long reservationId,
+                                    List<Long> reservationIds, String reservationToken, Long roomId,
+                                    Long studyGroupId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.outboxId = outboxId;
+        this.eventType = eventType;
+        this.reservationId = reservationId;
+        this.reservationIds = reservationIds != null ? reservationIds : List.of();
+        this.reservationToken = reservationToken;
+        this.roomId = roomId;
+        this.studyGroupId = studyGroupId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static ReservationOutboxMessage of(ReservationOutbox outbox) {
+        return ReservationOutboxMessage.builder()
+                .outboxId(outbox.getId())
+                .eventType(outbox.getEventType())
+                .reservationId(outbox.getReservationId())
+                .reservationIds(outbox.getReservationIdList())
+                .reservationToken(outbox.getReservationToken())
+                .roomId(outbox.getRoomId())
+                .studyGroupId(outbox.getStudyGroupId())
+                .startTime(outbox.getStartTime())
+                .endTime(outbox.getEndTime())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.dsg.wardstudy.domain.reservation.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 룸 예약 시간대 projection (엔티티 로딩 없이 시간 정보만 조회)
+ */
+@Getter
+@ToString
+public class ReservationSlot {
+
+    private final Long roomId;
+    private final String reservationToken;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public ReservationSlot(Long roomId, String reservationToken, LocalDateTime startTime, LocalDateTime endTime) {
+        this.roomId = roomId;
+        this.reservationToken = reservationToken;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
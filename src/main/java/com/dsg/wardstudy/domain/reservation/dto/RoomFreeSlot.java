@@ -0,0 +1,37 @@
+package com.dsg.wardstudy.domain.reservation.dto;
+
+import com.dsg.wardstudy.common.utils.TimeParsingUtils;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class RoomFreeSlot {
+
+    private Long roomId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private String startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private String endTime;
+
+    @Builder
+    public RoomFreeSlot(Long roomId, String startTime, String endTime) {
+        this.roomId = roomId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static RoomFreeSlot of(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return RoomFreeSlot.builder()
+                .roomId(roomId)
+                .startTime(TimeParsingUtils.formatterString(startTime))
+                .endTime(TimeParsingUtils.formatterString(endTime))
+                .build();
+    }
+}
@@ -16,10 +16,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @ToString(of = {"reservationToken", "startTime", "endTime", "isEmailSent"})
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_room_time", columnList = "room_id, start_time"),
+        // 알림 배치 대상 조회 (is_email_sent = false and start_time > now)
+        @Index(name = "idx_reservation_sent_start", columnList = "is_email_sent, start_time")
+})
 public class Reservation extends BaseTimeEntity {
 
     private static final String RESERVATION_PREFIX = "reserv_";
+    // 예약시간 최대 4시간
+    public static final long MAX_HOURS = 4L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,37 @@
+package com.dsg.wardstudy.domain.reservation.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 메일 발송 기록 (예약 x 수신자)
+ * 한 예약의 수신자가 여러 파티션/청크에 나뉘어 발송되므로, 수신자별로 발송 완료를 남기고
+ * 스터디그룹 멤버 전원에게 발송된 예약만 is_email_sent 를 반영한다. (ReservationAlarmJdbcRepository 가 JDBC 로 기록)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@ToString
+@Table(name = "reservation_alarm_delivery",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_alarm_delivery", columnNames = {"reservation_id", "user_id"}))
+public class ReservationAlarmDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delivery_id")
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,36 @@
+package com.dsg.wardstudy.domain.reservation.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 변경 알림 발송 기록 (outbox 메시지 x 수신자)
+ * Kafka 는 at-least-once 이므로 같은 메시지가 다시 오면 이미 보낸 수신자는 건너뛴다. (ReservationNotificationJdbcRepository 가 JDBC 로 기록)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@ToString
+@Table(name = "reservation_notification_delivery",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_notification_delivery", columnNames = {"outbox_id", "user_id"}))
+public class ReservationNotificationDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delivery_id")
+    private Long id;
+
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
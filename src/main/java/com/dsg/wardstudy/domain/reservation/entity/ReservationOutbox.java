@@ -0,0 +1,120 @@
+package com.dsg.wardstudy.domain.reservation.entity;
+
+import com.dsg.wardstudy.domain.BaseTimeEntity;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 변경 알림 outbox
+ * 예약 등록/수정/삭제와 같은 트랜잭션에서 쌓고, ReservationOutboxRelay 가 Kafka 로 발행한 뒤 publishedAt 을 채운다.
+ * 일괄 등록은 한 행으로 쌓는다. (reservationIds: 등록된 예약 id 목록, startTime/endTime: 첫 예약 시작 ~ 마지막 예약 종료)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@ToString(of = {"id", "eventType", "reservationToken", "publishedAt"})
+@Table(name = "reservation_outbox", indexes = @Index(name = "idx_reservation_outbox_published", columnList = "published_at"))
+public class ReservationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ReservationChangedEvent.Type eventType;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    // 일괄 등록일 때만 (콤마 구분)
+    @Column(name = "reservation_ids", columnDefinition = "text")
+    private String reservationIds;
+
+    @Column(name = "reservation_token", nullable = false)
+    private String reservationToken;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "study_group_id")
+    private Long studyGroupId;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public ReservationOutbox(ReservationChangedEvent.Type eventType, Long reservationId, String reservationIds,
+                             String reservationToken, Long roomId, Long studyGroupId,
+                             LocalDateTime startTime, LocalDateTime endTime) {
+        this.eventType = eventType;
+        this.reservationId = reservationId;
+        this.reservationIds = reservationIds;
+        this.reservationToken = reservationToken;
+        this.roomId = roomId;
+        this.studyGroupId = studyGroupId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static ReservationOutbox of(ReservationChangedEvent event) {
+        return ReservationOutbox.builder()
+                .eventType(event.getType())
+                .reservationId(event.getReservationId())
+                .reservationToken(event.getReservationToken())
+                .roomId(event.getRoomId())
+                .studyGroupId(event.getStudyGroupId())
+                .startTime(event.getStartTime())
+                .endTime(event.getEndTime())
+                .build();
+    }
+
+    public static ReservationOutbox of(ReservationBulkRegisteredEvent event) {
+        List<ReservationChangedEvent> reservations = event.getReservations();
+        return ReservationOutbox.builder()
+                .eventType(ReservationChangedEvent.Type.REGISTERED)
+                .reservationIds(reservations.stream()
+                        .map(ReservationChangedEvent::getReservationId)
+                        .filter(Objects::nonNull)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                // Kafka key (첫 예약 토큰)
+                .reservationToken(reservations.get(0).getReservationToken())
+                .roomId(event.getRoomId())
+                .studyGroupId(event.getStudyGroupId())
+                .startTime(reservations.stream().map(ReservationChangedEvent::getStartTime)
+                        .min(Comparator.naturalOrder()).orElse(null))
+                .endTime(reservations.stream().map(ReservationChangedEvent::getEndTime)
+                        .max(Comparator.naturalOrder()).orElse(null))
+                .build();
+    }
+
+    public boolean isBulk() {
+        return reservationIds != null;
+    }
+
+    public List<Long> getReservationIdList() {
+        if (reservationIds == null || reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(reservationIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+}
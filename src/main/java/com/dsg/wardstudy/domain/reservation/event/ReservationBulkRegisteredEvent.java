@@ -0,0 +1,40 @@
+package com.dsg.wardstudy.domain.reservation.event;
+
+import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 예약 등록 이벤트 (한 룸, 한 스터디그룹)
+ * 예약마다 이벤트를 내면 캐시 삭제/멤버 조회/알림이 예약 수만큼 반복되므로 한 건으로 묶는다.
+ * reservations : 등록된 예약별 REGISTERED 이벤트 (reservationId 포함)
+ */
+@Getter
+@ToString
+public class ReservationBulkRegisteredEvent {
+
+    private final Long roomId;
+    private final Long studyGroupId;
+    private final List<ReservationChangedEvent> reservations;
+
+    public ReservationBulkRegisteredEvent(Long roomId, Long studyGroupId, List<ReservationChangedEvent> reservations) {
+        this.roomId = roomId;
+        this.studyGroupId = studyGroupId;
+        this.reservations = reservations;
+    }
+
+    /**
+     * @param reservationIds reservationToken -> reservationId (batch insert 후 조회한 값)
+     */
+    public static ReservationBulkRegisteredEvent of(Long roomId, Long studyGroupId, List<Reservation> reservations,
+                                                    Map<String, Long> reservationIds) {
+        return new ReservationBulkRegisteredEvent(roomId, studyGroupId, reservations.stream()
+                .map(reservation -> ReservationChangedEvent.registered(
+                        reservation, reservationIds.get(reservation.getReservationToken())))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.dsg.wardstudy.domain.reservation.event;
+
+import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 등록/수정/삭제 이벤트
+ * 트랜잭션 커밋 전후로 캐시 무효화, outbox 기록 등 부가 상태를 갱신할 때 사용
+ */
+@Getter
+@ToString
+public class ReservationChangedEvent {
+
+    public enum Type {
+        REGISTERED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long reservationId;
+    private final String reservationToken;
+    private final Long roomId;
+    private final Long studyGroupId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    // 수정 전 시간 (UPDATED 일 때만)
+    private final LocalDateTime previousStartTime;
+    private final LocalDateTime previousEndTime;
+
+    @Builder
+    public ReservationChangedEvent(Type type, Long reservationId, String reservationToken, Long roomId,
+                                   Long studyGroupId, LocalDateTime startTime, LocalDateTime endTime,
+                                   LocalDateTime previousStartTime, LocalDateTime previousEndTime) {
+        this.type = type;
+        this.reservationId = reservationId;
+        this.reservationToken = reservationToken;
+        this.roomId = roomId;
+        this.studyGroupId = studyGroupId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.previousStartTime = previousStartTime;
+        this.previousEndTime = previousEndTime;
+    }
+
+    public static ReservationChangedEvent registered(Reservation reservation) {
+        return registered(reservation, reservation.getId());
+    }
+
+    // JDBC batch insert 로 등록한 예약은 엔티티에 id 가 없으므로 따로 받는다
+    public static ReservationChangedEvent registered(Reservation reservation, Long reservationId) {
+        return ReservationChangedEvent.builder()
+                .type(Type.REGISTERED)
+                .reservationId(reservationId)
+                .reservationToken(reservation.getReservationToken())
+                .roomId(reservation.getRoom().getId())
+                .studyGroupId(reservation.getStudyGroup().getId())
+                .startTime(reservation.getStartTime())
+                .endTime(reservation.getEndTime())
+                .build();
+    }
+
+    public static ReservationChangedEvent updated(Reservation reservation,
+                                                  LocalDateTime previousStartTime, LocalDateTime previousEndTime) {
+        return ReservationChangedEvent.builder()
+                .type(Type.UPDATED)
+                .reservationId(reservation.getId())
+                .reservationToken(reservation.getReservationToken())
+                .roomId(reservation.getRoom().getId())
+                .studyGroupId(reservation.getStudyGroup().getId())
+                .startTime(reservation.getStartTime())
+                .endTime(reservation.getEndTime())
+                .previousStartTime(previousStartTime)
+                .previousEndTime(previousEndTime)
+                .build();
+    }
+
+    public static ReservationChangedEvent deleted(Reservation reservation) {
+        return of(Type.DELETED, reservation);
+    }
+
+    private static ReservationChangedEvent of(Type type, Reservation reservation) {
+        return ReservationChangedEvent.builder()
+                .type(type)
+                .reservationId(reservation.getId())
+                .reservationToken(reservation.getReservationToken())
+                .roomId(reservation.getRoom().getId())
+                .studyGroupId(reservation.getStudyGroup().getId())
+                .startTime(reservation.getStartTime())
+                .endTime(reservation.getEndTime())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.dsg.wardstudy.domain.reservation.outbox;
+
+import com.dsg.wardstudy.common.adapter.mail.MailMessageGenerator;
+import com.dsg.wardstudy.common.adapter.mail.MailSendService;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationOutboxMessage;
+import com.dsg.wardstudy.domain.reservation.entity.Room;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.reservation.service.ReservationService;
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.dsg.wardstudy.domain.user.entity.User;
+import com.dsg.wardstudy.repository.reservation.ReservationNotificationJdbcRepository;
+import com.dsg.wardstudy.repository.reservation.RoomRepository;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import com.dsg.wardstudy.repository.user.UserGroupRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 예약 알림 Kafka consumer
+ * 스터디그룹 멤버 전원에게 등록/변경/취소 메일을 보낸다. (consumer group 으로 인스턴스 간 분산)
+ * 일괄 등록은 멤버당 메일 1통(건수 + 기간)으로 묶어서 보낸다.
+ * 메시지는 at-least-once 로 다시 올 수 있으므로 수신자별 발송 기록을 남기고, 이미 보낸 수신자는 건너뛴다.
+ * 일부 수신자에게 발송 실패하면 예외를 던져 offset 을 커밋하지 않는다. -> 에러 핸들러가 backoff 후 재전달하고
+ * (실패한 수신자에게만 다시 발송), 재시도를 다 쓰면 DLT 로 보낸다. (KafkaConsumerConfig)
+ * 등록/변경 메일을 모두 보낸 예약은 is_email_sent 를 채워서 알림 배치에서 다시 보내지 않게 한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class ReservationNotificationConsumer {
+
+    private static final String SUBJECT = "ward-study 예약룸 알림";
+
+    private final UserGroupRepository userGroupRepository;
+    private final StudyGroupRepository studyGroupRepository;
+    private final RoomRepository roomRepository;
+    private final ReservationService reservationService;
+    private final ReservationNotificationJdbcRepository reservationNotificationJdbcRepository;
+    private final MailSendService mailSendService;
+    private final MailMessageGenerator messageGenerator;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${app.outbox.topic:reservation-notification}",
+            groupId = "${app.outbox.consumer-group:reservation-notification}")
+    public void consume(String payload) throws JsonProcessingException {
+        ReservationOutboxMessage message = objectMapper.readValue(payload, ReservationOutboxMessage.class);
+        log.info("reservation notification consume: {}", message);
+
+        Optional<StudyGroup> studyGroup = studyGroupRepository.findById(message.getStudyGroupId());
+        if (studyGroup.isEmpty()) {
+            // 스터디그룹이 삭제되면 멤버도 없으므로 보낼 대상이 없음
+            return;
+        }
+        String roomName = roomRepository.findById(message.getRoomId()).map(Room::getName).orElse("");
+        boolean bulk = !message.getReservationIds().isEmpty();
+
+        // 재전달된 메시지면 이미 보낸 수신자는 제외
+        Set<Long> notified = reservationNotificationJdbcRepository.findNotifiedUserIds(message.getOutboxId());
+        List<User> targets = new ArrayList<>();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (User member : userGroupRepository.findUserBySGId(message.getStudyGroupId())) {
+            if (notified.contains(member.getId())) {
+                continue;
+            }
+            String html = bulk
+                    ? messageGenerator.toKafkaBulkMessage(member.getName(), message, studyGroup.get().getTitle(), roomName)
+                    : messageGenerator.toKafkaMessage(member.getName(), message, studyGroup.get().getTitle(), roomName);
+            targets.add(member);
+            results.add(mailSendService.sendMailAsync(member.getEmail(), SUBJECT, html).exceptionally(e -> false));
+        }
+
+        List<Long> sentUserIds = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (results.get(i).join()) {
+                sentUserIds.add(targets.get(i).getId());
+            }
+        }
+        if (!sentUserIds.isEmpty()) {
+            reservationNotificationJdbcRepository.insertDeliveries(message.getOutboxId(), sentUserIds);
+        }
+
+        if (sentUserIds.size() < targets.size()) {
+            throw new IllegalStateException(String.format("reservation notification 일부 발송 실패, outboxId: %d, failed: %d/%d",
+                    message.getOutboxId(), targets.size() - sentUserIds.size(), targets.size()));
+        }
+        if (message.getEventType() != ReservationChangedEvent.Type.DELETED) {
+            List<Long> reservationIds = toReservationIds(message);
+            if (!reservationIds.isEmpty()) {
+                reservationService.changeIsEmailSent(reservationIds);
+            }
+        }
+    }
+
+    // id 를 모르는 예약(null)은 반영하지 않음 -> 알림 배치가 처리
+    private List<Long> toReservationIds(ReservationOutboxMessage message) {
+        if (!message.getReservationIds().isEmpty()) {
+            return message.getReservationIds();
+        }
+        return message.getReservationId() != null ? List.of(message.getReservationId()) : List.of();
+    }
+}
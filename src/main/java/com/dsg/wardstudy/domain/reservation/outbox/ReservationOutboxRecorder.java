@@ -0,0 +1,37 @@
+package com.dsg.wardstudy.domain.reservation.outbox;
+
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.repository.reservation.ReservationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 변경 이벤트를 같은 트랜잭션 안에서 outbox 에 기록 (커밋 직전)
+ * 예약 변경이 롤백되면 outbox 도 같이 롤백되고, 커밋되면 relay 가 반드시 발행한다.
+ * 일괄 등록은 예약 수와 관계없이 outbox 한 행으로 기록한다. (멤버당 알림 메일 1통)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class ReservationOutboxRecorder {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        reservationOutboxRepository.save(ReservationOutbox.of(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationBulkRegistered(ReservationBulkRegisteredEvent event) {
+        if (event.getReservations().isEmpty()) {
+            return;
+        }
+        reservationOutboxRepository.save(ReservationOutbox.of(event));
+    }
+}
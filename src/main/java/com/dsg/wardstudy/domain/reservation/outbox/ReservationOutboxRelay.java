@@ -0,0 +1,129 @@
+package com.dsg.wardstudy.domain.reservation.outbox;
+
+import com.dsg.wardstudy.domain.reservation.dto.ReservationOutboxMessage;
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import com.dsg.wardstudy.repository.reservation.ReservationNotificationJdbcRepository;
+import com.dsg.wardstudy.repository.reservation.ReservationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox -> Kafka 발행
+ * 미발행 행을 FOR UPDATE SKIP LOCKED 로 batch-size 만큼 잡아서 한꺼번에 보내고, 발행 확인(ack)된 행만 publishedAt 을 채운다.
+ * 여러 인스턴스가 동시에 돌아도 같은 행을 잡지 않는다. (발행 후 커밋 전에 죽으면 다시 발행 -> consumer 는 at-least-once)
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class ReservationOutboxRelay {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ReservationNotificationJdbcRepository reservationNotificationJdbcRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final int retentionDays;
+
+    public ReservationOutboxRelay(ReservationOutboxRepository reservationOutboxRepository,
+                                  ReservationNotificationJdbcRepository reservationNotificationJdbcRepository,
+                                  KafkaTemplate<String, String> kafkaTemplate,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.outbox.topic:reservation-notification}") String topic,
+                                  @Value("${app.outbox.batch-size:100}") int batchSize,
+                                  @Value("${app.outbox.send-timeout-millis:5000}") long sendTimeoutMillis,
+                                  @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.reservationOutboxRepository = reservationOutboxRepository;
+        this.reservationNotificationJdbcRepository = reservationNotificationJdbcRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-millis:1000}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> publishBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    // 발행 완료된 outbox / 알림 발송 기록 정리
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+                reservationOutboxRepository.deletePublishedBefore(before));
+        int deletedDeliveries = reservationNotificationJdbcRepository.deleteSentBefore(before);
+        log.info("reservationOutbox purge, deleted: {}, deletedDeliveries: {}", deleted, deletedDeliveries);
+    }
+
+    /**
+     * @return 발행 완료한 건수
+     */
+    public int publishBatch() {
+        List<ReservationOutbox> outboxes = reservationOutboxRepository.findUnpublishedForUpdate(batchSize);
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        List<ListenableFuture<SendResult<String, String>>> results = new ArrayList<>(outboxes.size());
+        for (ReservationOutbox outbox : outboxes) {
+            results.add(kafkaTemplate.send(topic, outbox.getReservationToken(), toJson(outbox)));
+        }
+        kafkaTemplate.flush();
+
+        // 앞에서부터 ack 된 행까지만 발행 처리 (실패 이후 행은 다음 주기에 순서대로 다시 발행)
+        List<Long> publishedIds = new ArrayList<>(outboxes.size());
+        for (int i = 0; i < outboxes.size(); i++) {
+            try {
+                results.get(i).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+                publishedIds.add(outboxes.get(i).getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("reservationOutbox 발행 실패, outboxId: {}", outboxes.get(i).getId(), e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            reservationOutboxRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        log.debug("reservationOutbox relay, fetched: {}, published: {}", outboxes.size(), publishedIds.size());
+        return publishedIds.size();
+    }
+
+    private String toJson(ReservationOutbox outbox) {
+        try {
+            return objectMapper.writeValueAsString(ReservationOutboxMessage.of(outbox));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("reservationOutbox 직렬화 실패, outboxId: " + outbox.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.dsg.wardstudy.domain.reservation.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루 예약 현황 비트맵 (슬롯 단위 10분, 하루 144 슬롯 -> long 3개)
+ * 비트가 1이면 해당 슬롯에 예약이 있음 (슬롯 일부만 걸쳐도 예약된 것으로 본다)
+ * 룸/일자별로 유지하지 않고, 빈 시간대 조회 요청마다 일자 버킷 캐시로 만들어 빈 구간을 뽑는 용도로만 쓴다.
+ */
+public class DaySlotBitmap {
+
+    public static final int SLOT_MINUTES = 10;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORDS = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words = new long[WORDS];
+
+    // 해당 일자 기준 시작 슬롯 (내림)
+    public static int fromSlot(LocalDate day, LocalDateTime time) {
+        long minutes = ChronoUnit.MINUTES.between(day.atStartOfDay(), time);
+        return (int) Math.max(0, Math.min(SLOTS_PER_DAY, Math.floorDiv(minutes, SLOT_MINUTES)));
+    }
+
+    // 해당 일자 기준 끝 슬롯 (올림, exclusive)
+    public static int toSlot(LocalDate day, LocalDateTime time) {
+        long seconds = ChronoUnit.SECONDS.between(day.atStartOfDay(), time);
+        long slotSeconds = SLOT_MINUTES * 60L;
+        return (int) Math.max(0, Math.min(SLOTS_PER_DAY, Math.floorDiv(seconds + slotSeconds - 1, slotSeconds)));
+    }
+
+    public static LocalDateTime timeOf(LocalDate day, int slot) {
+        return day.atStartOfDay().plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    // [fromSlot, toSlot) 구간을 예약됨으로 표시
+    public void set(int fromSlot, int toSlot) {
+        if (fromSlot >= toSlot) {
+            return;
+        }
+        int startWord = fromSlot >>> 6;
+        int endWord = (toSlot - 1) >>> 6;
+        long firstMask = -1L << fromSlot;
+        long lastMask = -1L >>> -toSlot;
+        if (startWord == endWord) {
+            words[startWord] |= firstMask & lastMask;
+            return;
+        }
+        words[startWord] |= firstMask;
+        for (int i = startWord + 1; i < endWord; i++) {
+            words[i] = -1L;
+        }
+        words[endWord] |= lastMask;
+    }
+
+    /**
+     * 비어있는 슬롯 구간 목록
+     * @return [시작 슬롯, 끝 슬롯) 배열 목록
+     */
+    public List<int[]> freeRanges() {
+        List<int[]> ranges = new ArrayList<>();
+        int from = nextClearSlot(0);
+        while (from < SLOTS_PER_DAY) {
+            int to = nextSetSlot(from);
+            ranges.add(new int[]{from, to});
+            from = nextClearSlot(to);
+        }
+        return ranges;
+    }
+
+    private int nextSetSlot(int fromSlot) {
+        if (fromSlot >= SLOTS_PER_DAY) {
+            return SLOTS_PER_DAY;
+        }
+        int u = fromSlot >>> 6;
+        long word = words[u] & (-1L << fromSlot);
+        while (true) {
+            if (word != 0) {
+                return Math.min(SLOTS_PER_DAY, u * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+            if (++u == WORDS) {
+                return SLOTS_PER_DAY;
+            }
+            word = words[u];
+        }
+    }
+
+    private int nextClearSlot(int fromSlot) {
+        if (fromSlot >= SLOTS_PER_DAY) {
+            return SLOTS_PER_DAY;
+        }
+        int u = fromSlot >>> 6;
+        long word = ~words[u] & (-1L << fromSlot);
+        while (true) {
+            if (word != 0) {
+                return Math.min(SLOTS_PER_DAY, u * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+            if (++u == WORDS) {
+                return SLOTS_PER_DAY;
+            }
+            word = ~words[u];
+        }
+    }
+}
@@ -2,15 +2,22 @@ package com.dsg.wardstudy.domain.reservation.service;
 
 import com.dsg.wardstudy.common.exception.ErrorCode;
 import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.common.lock.RoomLockManager;
 import com.dsg.wardstudy.common.utils.TimeParsingUtils;
+import com.dsg.wardstudy.domain.reservation.cache.ReservationDayBucketCache;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationCommand;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationDetails;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationSlot;
+import com.dsg.wardstudy.domain.reservation.dto.RoomFreeSlot;
 import com.dsg.wardstudy.domain.reservation.dto.ValidateFindByIdDto;
 import com.dsg.wardstudy.domain.reservation.entity.Reservation;
 import com.dsg.wardstudy.domain.reservation.entity.Room;
-import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
-import com.dsg.wardstudy.domain.user.constant.UserType;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.reservation.schedule.DaySlotBitmap;
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.dsg.wardstudy.domain.user.entity.User;
+import com.dsg.wardstudy.repository.reservation.ReservationJdbcRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationRepository;
 import com.dsg.wardstudy.repository.reservation.RoomRepository;
 import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
@@ -18,21 +25,24 @@ import com.dsg.wardstudy.repository.user.UserGroupRepository;
 import com.dsg.wardstudy.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Date;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_USER_LIST;
 
 
 @Log4j2
@@ -40,21 +50,41 @@ import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService{
 
+    // 일괄 예약 최대 개수 (주 1회 한 학기 + 여유)
+    private static final int MAX_BULK_SLOTS = 100;
+
     private final StudyGroupRepository studyGroupRepository;
     private final UserRepository userRepository;
     private final UserGroupRepository userGroupRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationJdbcRepository reservationJdbcRepository;
     private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomLockManager roomLockManager;
+    private final TransactionOperations transactionOperations;
+    private final ReservationDayBucketCache reservationDayBucketCache;
 
-    @CacheEvict(key = "#roomId", value = RESERVATION_LIST, cacheManager = "redisCacheManager")
-    @Transactional
     @Override
     public ReservationDetails register(Long studyGroupId, Long roomId,
                                        ReservationCommand.RegisterReservation registerReservation) {
 
-        Reservation reservation = validateCreateRequest(studyGroupId, roomId, registerReservation);
+        // 시간 간격 차이 최소 1시간
+        validateDiffTime(registerReservation.getStartTime(), registerReservation.getEndTime());
+
+        // 같은 룸 예약은 커밋까지 순서대로 처리 (락은 트랜잭션을 열기 전에 잡는다)
+        return roomLockManager.executeInTransaction(roomId, transactionOperations,
+                () -> registerInLock(studyGroupId, roomId, registerReservation));
+    }
+
+    private ReservationDetails registerInLock(Long studyGroupId, Long roomId,
+                                              ReservationCommand.RegisterReservation registerReservation) {
+        MembershipContext membershipContext = validateMembership(registerReservation.getUserId(), studyGroupId, roomId,
+                "Reservation registration is possible only if the user is the leader.");
+
+        Reservation reservation = validateCreateRequest(roomId, registerReservation, membershipContext);
         Reservation saveReservation = reservationRepository.save(reservation);
-        ReservationDetails reservationDetails = ReservationDetails.mapToDto(saveReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.registered(saveReservation));
+        ReservationDetails reservationDetails = ReservationDetails.mapToDto(saveReservation, membershipContext);
         log.info("register reservationDetails: {}", reservationDetails);
 
 
@@ -63,34 +93,17 @@ public class ReservationServiceImpl implements ReservationService{
     }
 
     private Reservation validateCreateRequest(
-            Long studyGroupId,
             Long roomId,
-            ReservationCommand.RegisterReservation registerReservation) {
-
-        // 시간 간격 차이 최소 1시간
-        validateDiffTime(registerReservation.getStartTime(), registerReservation.getEndTime());
-
-        ValidateFindByIdDto validateFindByIdDto = validateFindById(registerReservation.getUserId(), studyGroupId, roomId);
+            ReservationCommand.RegisterReservation registerReservation,
+            MembershipContext membershipContext) {
 
         LocalDateTime startTime = TimeParsingUtils.formatterLocalDateTime(registerReservation.getStartTime());
         LocalDateTime endTime = TimeParsingUtils.formatterLocalDateTime(registerReservation.getEndTime());
 
         // 예약 중복되었는지 체크
-        List<Reservation> findReservations = reservationRepository.findByRoomIdAndTime(roomId, startTime, endTime);
-        if (findReservations != null) {
-            throw new WSApiException(ErrorCode.DUPLICATED_ENTITY, "이미 예약한 사람이 있습니다. 다시 예약을 해주세요.");
-        }
-
-        UserType findUserType = userGroupRepository.findUserTypeByUserIdAndSGId(registerReservation.getUserId(), studyGroupId)
-                .orElseThrow(() -> new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다."));
+        validateOverlap(roomId, startTime, endTime, null);
 
-        Optional.of(findUserType).ifPresent(userType -> {
-            if (!userType.equals(UserType.LEADER)) {
-                log.error("userType이 Leader가 아닙니다.");
-                throw new WSApiException(ErrorCode.INVALID_REQUEST,
-                        "Reservation registration is possible only if the user is the leader.");
-            }
-        });
+        ValidateFindByIdDto validateFindByIdDto = toReferences(membershipContext);
         Reservation reservation = registerReservation.mapToEntity(
                   validateFindByIdDto.getUser()
                 , validateFindByIdDto.getStudyGroup()
@@ -99,56 +112,147 @@ public class ReservationServiceImpl implements ReservationService{
 
         log.info("registerReservation: {}", reservation);
 
-        // 중복 reservation 체크
-        reservationRepository.findByTokenLock(reservation.getReservationToken()).ifPresent( r -> {
-            log.error("Same reservationToken is existing, can't make the reservation");
-            throw new WSApiException(ErrorCode.DUPLICATED_ENTITY, "reservationToken", reservation.getReservationToken());
-        });
-
         return reservation;
     }
 
+    @Override
+    public List<ReservationDetails> registerBulk(Long studyGroupId, Long roomId,
+                                                 ReservationCommand.BulkRegisterReservation bulkRegisterReservation) {
+
+        List<ReservationCommand.Slot> slots;
+        try {
+            slots = bulkRegisterReservation.toSlots(MAX_BULK_SLOTS);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, e.getMessage());
+        }
+        if (slots.isEmpty() || slots.size() > MAX_BULK_SLOTS) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST,
+                    "일괄 예약은 1개 이상 " + MAX_BULK_SLOTS + "개 이하만 가능합니다.");
+        }
+
+        return roomLockManager.executeInTransaction(roomId, transactionOperations,
+                () -> registerBulkInLock(studyGroupId, roomId, bulkRegisterReservation, slots));
+    }
+
+    private List<ReservationDetails> registerBulkInLock(Long studyGroupId, Long roomId,
+                                                        ReservationCommand.BulkRegisterReservation bulkRegisterReservation,
+                                                        List<ReservationCommand.Slot> slots) {
+        // 권한 체크는 한 번만
+        MembershipContext membershipContext = validateMembership(bulkRegisterReservation.getUserId(), studyGroupId, roomId,
+                "Reservation registration is possible only if the user is the leader.");
+        ValidateFindByIdDto validateFindByIdDto = toReferences(membershipContext);
+
+        List<Reservation> reservations = slots.stream()
+                .map(slot -> slot.mapToEntity(
+                        validateFindByIdDto.getUser(),
+                        validateFindByIdDto.getStudyGroup(),
+                        validateFindByIdDto.getRoom()))
+                .sorted(Comparator.comparing(Reservation::getStartTime))
+                .collect(Collectors.toList());
+
+        validateBulkOverlap(roomId, reservations);
+
+        reservationJdbcRepository.batchInsert(reservations);
+        // 예약별 이벤트 대신 한 건으로 (캐시 삭제/알림도 한 번)
+        Map<String, Long> reservationIds = reservationJdbcRepository.findIdsByTokens(reservations.stream()
+                .map(Reservation::getReservationToken)
+                .collect(Collectors.toList()));
+        eventPublisher.publishEvent(ReservationBulkRegisteredEvent.of(
+                roomId, membershipContext.getStudyGroupId(), reservations, reservationIds));
+        log.info("registerBulk roomId: {}, count: {}", roomId, reservations.size());
+
+        return reservations.stream()
+                .map(reservation -> ReservationDetails.mapToDto(reservation, membershipContext))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 일괄 예약 시간 중복 체크 (시작시간 순 정렬된 목록)
+     * 요청 내 중복을 먼저 보고, 기존 예약과의 중복은 전체 기간 DB 조회 1회로 판단한다.
+     */
+    private void validateBulkOverlap(Long roomId, List<Reservation> reservations) {
+        Reservation prev = null;
+        for (Reservation reservation : reservations) {
+            validateDuration(reservation.getStartTime(), reservation.getEndTime());
+            if (prev != null && prev.getEndTime().isAfter(reservation.getStartTime())) {
+                throw new WSApiException(ErrorCode.INVALID_REQUEST, "요청한 예약 시간끼리 겹칩니다. " + reservation.getStartTime());
+            }
+            prev = reservation;
+        }
+
+        List<ReservationSlot> existing = reservationRepository.findSlotsByRoomIdAndPeriod(roomId,
+                reservations.get(0).getStartTime(), reservations.get(reservations.size() - 1).getEndTime());
+        Reservation conflict = findConflict(reservations, existing);
+        if (conflict != null) {
+            throw new WSApiException(ErrorCode.DUPLICATED_ENTITY, "이미 예약한 사람이 있습니다. " + conflict.getStartTime());
+        }
+    }
+
+    // 기존 예약(시작시간 순)과 겹치는 첫 요청 예약, 없으면 null
+    private Reservation findConflict(List<Reservation> reservations, List<ReservationSlot> existing) {
+        for (Reservation reservation : reservations) {
+            for (ReservationSlot slot : existing) {
+                if (!slot.getStartTime().isBefore(reservation.getEndTime())) {
+                    break;
+                }
+                if (slot.getEndTime().isAfter(reservation.getStartTime())) {
+                    return reservation;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 예약 시간 중복 체크
+     * 룸 락을 잡은 뒤 DB 로 판단한다. (idx_reservation_room_time 으로 최근 4시간 이내 시작한 예약만 범위 조회)
+     * @param reservationToken 수정 시 자기 자신 예약 토큰 (등록 시 null)
+     */
+    private void validateOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime, String reservationToken) {
+        if (reservationRepository.existsOverlap(roomId, startTime, endTime, reservationToken)) {
+            log.error("이미 예약된 시간입니다. roomId: {}, startTime: {}, endTime: {}", roomId, startTime, endTime);
+            throw new WSApiException(ErrorCode.DUPLICATED_ENTITY, "이미 예약한 사람이 있습니다. 다시 예약을 해주세요.");
+        }
+    }
+
     private void validateDiffTime(String stateTime, String endTime) {
-        SimpleDateFormat sft = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-        Date stateDate = null;
-        Date endDate = null;
         try {
-            stateDate = sft.parse(stateTime);
-            endDate = sft.parse(endTime);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+            validateDuration(TimeParsingUtils.formatterLocalDateTime(stateTime),
+                    TimeParsingUtils.formatterLocalDateTime(endTime));
+        } catch (DateTimeParseException e) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "시간 형식은 yyyy-MM-dd HH:mm:ss 이어야 합니다.");
         }
-        long diffTime = (endDate.getTime() - stateDate.getTime())/3600000;
-        log.info("diffTime: {}", diffTime);
-        if (diffTime < 1 || diffTime > 4) {
+    }
+
+    private void validateDuration(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime.plusHours(1).isAfter(endTime)
+                || endTime.isAfter(startTime.plusHours(Reservation.MAX_HOURS))) {
             throw new WSApiException(ErrorCode.INVALID_REQUEST, "예약시간은 최소 1시간이상이어야 하고 최대 4시간을 넘길 수 없습니다.");
         }
     }
 
-    private ValidateFindByIdDto validateFindById(Long userId, Long studyGroupId, Long roomId) {
-        User user = userRepository.findById(userId)
+    /**
+     * user/studyGroup/room 존재 여부와 리더 권한을 쿼리 한 번으로 확인
+     */
+    private MembershipContext validateMembership(Long userId, Long studyGroupId, Long roomId, String errorMessage) {
+        MembershipContext membershipContext = userGroupRepository.findMembershipContext(userId, studyGroupId, roomId)
                 .orElseThrow(() -> {
                     log.error("user 대상이 없습니다. userId: {}", userId);
                     throw new WSApiException(ErrorCode.NOT_FOUND_USER);
                 });
-        StudyGroup studyGroup = studyGroupRepository.findById(studyGroupId)
-                .orElseThrow(() -> {
-                    log.error("studyGroup 대상이 없습니다. studyGroupId: {}", studyGroupId);
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
-                });
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> {
-                    log.error("room 대상이 없습니다. roomId: {}", roomId);
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
-                });
+        return membershipContext.validateLeader(errorMessage).validateRoom();
+    }
 
+    // 검증된 id 로 프록시만 만들어 연관관계 설정 (추가 select 없음)
+    private ValidateFindByIdDto toReferences(MembershipContext membershipContext) {
         return ValidateFindByIdDto.builder()
-                .user(user)
-                .studyGroup(studyGroup)
-                .room(room)
+                .user(userRepository.getById(membershipContext.getUserId()))
+                .studyGroup(studyGroupRepository.getById(membershipContext.getStudyGroupId()))
+                .room(roomRepository.getById(membershipContext.getRoomId()))
                 .build();
     }
 
+    @Cacheable(key = "#userId", value = RESERVATION_USER_LIST, cacheManager = "layeredCacheManager", sync = true)
     @Transactional(readOnly = true)
     @Override
     public List<ReservationDetails> getAllByUserId(Long userId) {
@@ -170,23 +274,74 @@ public class ReservationServiceImpl implements ReservationService{
     public List<ReservationDetails> getByRoomIdAndTimePeriod(Long roomId, String startTime, String endTime) {
 
         validateDiffTime(startTime, endTime);
-
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> {
-                    log.error("room 대상이 없습니다. roomId: {}", roomId);
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
-                });
+        validateRoom(roomId);
 
         LocalDateTime sTime = TimeParsingUtils.formatterLocalDateTime(startTime);
         LocalDateTime eTime = TimeParsingUtils.formatterLocalDateTime(endTime);
 
-        return reservationRepository.findByRoomIdAndTimePeriod(room.getId(), sTime, eTime).stream()
-                .map(ReservationDetails::mapToDto)
+        // 구간에 걸친 일자 버킷을 모아 구간 안에 있는 예약만 거른다
+        // (yyyy-MM-dd HH:mm:ss 문자열은 시간 순서와 사전 순서가 같으므로 문자열로 비교)
+        String from = TimeParsingUtils.formatterString(sTime);
+        String to = TimeParsingUtils.formatterString(eTime);
+        List<ReservationDetails> result = new ArrayList<>();
+        for (LocalDate day = sTime.toLocalDate(); !day.isAfter(eTime.toLocalDate()); day = day.plusDays(1)) {
+            for (ReservationDetails details : reservationDayBucketCache.get(roomId, day)) {
+                if (details.getStartTime().compareTo(from) >= 0 && details.getEndTime().compareTo(to) <= 0) {
+                    result.add(details);
+                }
+            }
+        }
+        return result;
+
+    }
+
+    // 해당 일자 빈 시간대 (10분 슬롯 단위)
+    @Override
+    public List<RoomFreeSlot> getFreeSlots(Long roomId, String date) {
+        validateRoom(roomId);
+
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "date 형식은 yyyy-MM-dd 이어야 합니다.");
+        }
+
+        return toDayBitmap(roomId, day).freeRanges().stream()
+                .map(range -> RoomFreeSlot.of(roomId,
+                        DaySlotBitmap.timeOf(day, range[0]),
+                        DaySlotBitmap.timeOf(day, range[1])))
                 .collect(Collectors.toList());
+    }
+
+    /**
+     * 요청마다 일자 버킷으로 해당 일자 슬롯 비트맵을 새로 만든다. (비트맵 자체는 캐시하지 않음)
+     * 일자 버킷은 무효화가 인스턴스 간에 전파되는 캐시이므로 다른 인스턴스의 변경도 반영된다.
+     * 예약은 최대 4시간이므로 전날 시작해서 자정을 넘긴 예약은 전날 버킷에서 가져온다.
+     */
+    private DaySlotBitmap toDayBitmap(Long roomId, LocalDate day) {
+        DaySlotBitmap bitmap = new DaySlotBitmap();
+        LocalDateTime dayStart = day.atStartOfDay();
+        for (LocalDate bucket : List.of(day.minusDays(1), day)) {
+            for (ReservationDetails details : reservationDayBucketCache.get(roomId, bucket)) {
+                LocalDateTime startTime = TimeParsingUtils.formatterLocalDateTime(details.getStartTime());
+                LocalDateTime endTime = TimeParsingUtils.formatterLocalDateTime(details.getEndTime());
+                if (endTime.isAfter(dayStart)) {
+                    bitmap.set(DaySlotBitmap.fromSlot(day, startTime), DaySlotBitmap.toSlot(day, endTime));
+                }
+            }
+        }
+        return bitmap;
+    }
 
+    private void validateRoom(Long roomId) {
+        if (!roomRepository.existsById(roomId)) {
+            log.error("room 대상이 없습니다. roomId: {}", roomId);
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
+        }
     }
 
-    @Cacheable(key = "#roomId", value = RESERVATION_LIST, cacheManager = "redisCacheManager")
+    @Cacheable(key = "#roomId", value = RESERVATION_LIST, cacheManager = "layeredCacheManager", sync = true)
     @Transactional(readOnly = true)
     @Override
     public List<ReservationDetails> getByRoomId(Long roomId) {
@@ -216,75 +371,81 @@ public class ReservationServiceImpl implements ReservationService{
         return ReservationDetails.mapToDto(reservation);
     }
 
-    @Transactional
     @Override
     public String updateByToken(Long roomId, String reservationToken, ReservationCommand.UpdateReservation updateReservation) {
         // update 로직 변경 : find old -> save new -> delete old
         // ReservationToken 으로 식별한 이후로 update 로직 다시 setter 로직으로 변경
-        Reservation findReservation = reservationRepository.findByTokenLock(reservationToken)
+        return roomLockManager.executeInTransaction(roomId, transactionOperations,
+                () -> updateInLock(roomId, reservationToken, updateReservation));
+    }
+
+    private String updateInLock(Long roomId, String reservationToken, ReservationCommand.UpdateReservation updateReservation) {
+        Reservation findReservation = reservationRepository.findByReservationToken(reservationToken)
                 .orElseThrow(() -> {
                     log.error("reservation 대상이 없습니다. reservationToken: {}", reservationToken);
                     throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
                 });
+        // 다른 룸 예약을 수정하면 해당 룸 락 없이 시간이 바뀌므로 막는다
+        if (!findReservation.getRoom().getId().equals(roomId)) {
+            log.error("해당 룸의 예약이 아닙니다. roomId: {}, reservationToken: {}", roomId, reservationToken);
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "해당 룸의 예약이 아닙니다.");
+        }
 
-        validateUpdateRequest(roomId, updateReservation);
+        validateUpdateRequest(roomId, findReservation, updateReservation);
+        LocalDateTime previousStartTime = findReservation.getStartTime();
+        LocalDateTime previousEndTime = findReservation.getEndTime();
         findReservation.update(updateReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.updated(findReservation, previousStartTime, previousEndTime));
         String updatedReservationToken = findReservation.getReservationToken();
         log.info("updatedReservationToken: {}", updatedReservationToken);
         return updatedReservationToken;
     }
 
 
-    private void validateUpdateRequest(Long roomId, ReservationCommand.UpdateReservation updateReservation) {
+    private void validateUpdateRequest(Long roomId, Reservation findReservation, ReservationCommand.UpdateReservation updateReservation) {
 
         validateDiffTime(updateReservation.getStartTime(), updateReservation.getEndTime());
-        validateFindById(updateReservation.getUserId(),
+        MembershipContext membershipContext = validateMembership(updateReservation.getUserId(),
                 updateReservation.getStudyGroupId(),
-                roomId);
-        UserType findUserType = userGroupRepository.findUserTypeByUserIdAndSGId(updateReservation.getUserId(), updateReservation.getStudyGroupId())
-                .orElseThrow(() -> new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다."));
-
-        Optional.of(findUserType).ifPresent(userType -> {
-            if (!userType.equals(UserType.LEADER)) {
-                log.error("userType이 Leader가 아닙니다.");
-                throw new WSApiException(ErrorCode.INVALID_REQUEST,
-                        "Reservation update is possible only if the user is the leader.");
-            }
-        });
+                roomId,
+                "Reservation update is possible only if the user is the leader.");
+        if (!findReservation.getStudyGroup().getId().equals(membershipContext.getStudyGroupId())) {
+            log.error("해당 studyGroup 의 예약이 아닙니다. studyGroupId: {}", membershipContext.getStudyGroupId());
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "해당 studyGroup 의 예약이 아닙니다.");
+        }
+        validateOverlap(roomId,
+                TimeParsingUtils.formatterLocalDateTime(updateReservation.getStartTime()),
+                TimeParsingUtils.formatterLocalDateTime(updateReservation.getEndTime()),
+                findReservation.getReservationToken());
     }
 
     @Transactional
     @Override
     public void deleteByToken(Long userId, String reservationToken) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("user 대상이 없습니다. userId: {}", userId);
-                    throw new WSApiException(ErrorCode.NOT_FOUND_USER);
-                });
-        // 해당 register 인지 validate
+        // 해당 studyGroup 리더인지 validate
         reservationRepository.findByTokenLock(reservationToken)
                 .ifPresent(reservation -> {
                     log.info("해당 reservation register: {}", reservation.getUser().getId());
+                    validateMembership(userId,
+                            reservation.getStudyGroup().getId(),
+                            reservation.getRoom().getId(),
+                            "Reservation delete is possible only if the user is the leader.");
 
-                    UserType findUserType = userGroupRepository.findUserTypeByUserIdAndSGId(reservation.getUser().getId(), reservation.getStudyGroup().getId())
-                            .orElseThrow(() -> new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다."));
-
-                    Optional.of(findUserType).ifPresent(userType -> {
-                        if (!userType.equals(UserType.LEADER)) {
-                            log.error("userType이 Leader가 아닙니다.");
-                            throw new WSApiException(ErrorCode.INVALID_REQUEST,
-                                    "Reservation update is possible only if the user is the leader.");
-                        }
-                        reservationRepository.deleteById(reservation.getId());
-                    });
+                    reservationRepository.deleteById(reservation.getId());
+                    eventPublisher.publishEvent(ReservationChangedEvent.deleted(reservation));
                 });
     }
 
     @Transactional
     @Override
-    public void changeIsEmailSent(Reservation reservation) {
-        reservation.changeIsEmailSent(true);
-        log.info("reservation.changeIsEmailSent(true); 실행");
+    public int changeIsEmailSent(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        // 건별 dirty checking 대신 update 한 번으로 반영
+        int updated = reservationRepository.updateIsEmailSentByIdIn(reservationIds);
+        log.info("reservation.changeIsEmailSent(true); 실행, ids: {}, updated: {}", reservationIds.size(), updated);
+        return updated;
     }
 
 }
@@ -57,6 +57,19 @@ public class StudyGroupController {
         return ResponseEntity.ok(studyGroupService.getAll(pageable, type, keyword));
     }
 
+    // 스터디그룹 전체조회 커서 기반 (mode=cursor, 다음 페이지는 응답의 nextCursor 로 요청)
+    @GetMapping(value = "/study-group/page", params = "mode=cursor")
+    public ResponseEntity<PageResponse.StudyGroupCursor> getAllByCursor(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "withCount", defaultValue = "false") boolean withCount
+    ) {
+        log.info("studyGroup getAllByCursor cursor: {}, size: {}, type: {}, keyword: {}", cursor, size, type, keyword);
+        return ResponseEntity.ok(studyGroupService.getAllByCursor(cursor, size, type, keyword, withCount));
+    }
+
     // 사용자가 참여한 스터디그룹 조회
     @GetMapping("/study-group")
     public ResponseEntity<List<StudyGroupResponse>> getAllByUserId(
@@ -22,6 +22,21 @@ public class PageResponse {
         private boolean last;
     }
 
+    /**
+     * 커서 기반 페이지 (nextCursor 로 다음 페이지 요청, totalElements 는 withCount 요청시에만 근사값)
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class StudyGroupCursor {
+        private List<StudyGroupResponse> content;
+        private int pageSize;
+        private Long nextCursor;
+        private boolean last;
+        private Long totalElements;
+    }
+
     public static StudyGroupDetail of(Pageable pageable, Page<StudyGroupResponse> studyGroupResponsePage) {
         return PageResponse.StudyGroupDetail.builder()
                 .content(studyGroupResponsePage.getContent())
@@ -33,4 +48,15 @@ public class PageResponse {
                 .build();
     }
 
+    public static StudyGroupCursor ofCursor(int pageSize, List<StudyGroupResponse> content, boolean hasNext,
+                                            Long totalElements) {
+        return PageResponse.StudyGroupCursor.builder()
+                .content(content)
+                .pageSize(pageSize)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getStudyGroupId() : null)
+                .last(!hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+
 }
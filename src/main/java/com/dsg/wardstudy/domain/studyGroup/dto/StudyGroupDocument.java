@@ -0,0 +1,22 @@
+package com.dsg.wardstudy.domain.studyGroup.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 검색 인덱스 적재용 projection (연관 엔티티 로딩 없이 제목/내용만 조회)
+ */
+@Getter
+@ToString(of = {"studyGroupId", "title"})
+public class StudyGroupDocument {
+
+    private final Long studyGroupId;
+    private final String title;
+    private final String content;
+
+    public StudyGroupDocument(Long studyGroupId, String title, String content) {
+        this.studyGroupId = studyGroupId;
+        this.title = title;
+        this.content = content;
+    }
+}
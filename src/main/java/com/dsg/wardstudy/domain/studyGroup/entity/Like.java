@@ -9,9 +9,14 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = Like.UNIQUE_CONSTRAINT, columnNames = {"study_group_id", "user_id"})
+})
 public class Like extends BaseTimeEntity {
 
+    // 중복 좋아요 판별용 (insert 실패 시 제약 이름으로 구분)
+    public static final String UNIQUE_CONSTRAINT = "uk_likes_study_group_user";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "like_id", nullable = false)
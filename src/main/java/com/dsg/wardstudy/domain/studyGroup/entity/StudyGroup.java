@@ -14,7 +14,9 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "study_group")
+@Table(name = "study_group",
+        // 검색 인덱스 재적재 이후 수정된 글 조회 (StudyGroupSearchIndex.indexedSince)
+        indexes = @Index(name = "idx_study_group_update_date", columnList = "update_date"))
 @ToString(of = {"id", "title", "content"})
 public class StudyGroup extends BaseTimeEntity {
 
@@ -29,6 +31,12 @@ public class StudyGroup extends BaseTimeEntity {
     @Column(nullable = false)
     private String content;
 
+    // 좋아요 수 (LikeCounter 가 주기적으로 누적 반영하는 비정규화 컬럼)
+    // 엔티티 insert/update 에서 빼서, 글 수정 시 읽어 둔 값으로 flush 증가분을 덮어쓰지 않게 한다
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private long likeCount;
+
     @OneToMany(mappedBy = "studyGroup", cascade = CascadeType.ALL)
     @JsonIgnore
     private List<UserGroup> userGroups = new ArrayList<>();
@@ -0,0 +1,57 @@
+package com.dsg.wardstudy.domain.studyGroup.event;
+
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 스터디그룹 등록/수정/삭제/참여 이벤트
+ * memberIds : 변경 영향을 받는 유저 (삭제 시 user_group 도 같이 지워지므로 트랜잭션 안에서 담아둔다)
+ * title, content : 등록/수정 시 변경된 내용 (검색 인덱스 갱신용)
+ */
+@Getter
+@ToString
+public class StudyGroupChangedEvent {
+
+    public enum Type {
+        REGISTERED, UPDATED, DELETED, PARTICIPATED
+    }
+
+    private final Type type;
+    private final Long studyGroupId;
+    private final List<Long> memberIds;
+    @ToString.Exclude
+    private final String title;
+    @ToString.Exclude
+    private final String content;
+
+    @Builder
+    public StudyGroupChangedEvent(Type type, Long studyGroupId, List<Long> memberIds, String title, String content) {
+        this.type = type;
+        this.studyGroupId = studyGroupId;
+        this.memberIds = memberIds;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static StudyGroupChangedEvent of(Type type, Long studyGroupId, List<Long> memberIds) {
+        return StudyGroupChangedEvent.builder()
+                .type(type)
+                .studyGroupId(studyGroupId)
+                .memberIds(memberIds)
+                .build();
+    }
+
+    public static StudyGroupChangedEvent of(Type type, StudyGroup studyGroup, List<Long> memberIds) {
+        return StudyGroupChangedEvent.builder()
+                .type(type)
+                .studyGroupId(studyGroup.getId())
+                .memberIds(memberIds)
+                .title(studyGroup.getTitle())
+                .content(studyGroup.getContent())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.dsg.wardstudy.domain.studyGroup.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 스터디그룹 좋아요 이벤트 (커밋 이후 좋아요 카운터 증가)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class StudyGroupLikedEvent {
+
+    private final Long studyGroupId;
+    private final Long userId;
+}
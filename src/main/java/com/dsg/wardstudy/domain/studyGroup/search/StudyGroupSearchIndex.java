@@ -0,0 +1,271 @@
+package com.dsg.wardstudy.domain.studyGroup.search;
+
+import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupDocument;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 스터디그룹 제목/내용 검색용 인메모리 역색인 (n-gram)
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 글자 단위 unigram + bigram 으로 색인한다.
+ * 검색어의 bigram 을 모두 포함하는 문서가 후보가 되고, 최종 판별은 기존 LIKE 조건으로 한다. (후보는 항상 정답의 상위집합)
+ * 기동 시 DB에서 적재하고, 등록/수정/삭제 커밋 이후 이벤트로 갱신한다.
+ * 다른 인스턴스의 변경은 주기적 재적재로 반영한다. 그 사이 다른 인스턴스에서 등록/수정된 글은 이 인덱스에 없으므로
+ * 재적재 기준(lastIndexedId, indexedSince) 이후에 등록/수정된 글은 인덱스와 무관하게 검색 대상에 넣는다.
+ * (기준값은 DB 재적재로만 바뀐다. 로컬 이벤트로 올리면 다른 인스턴스가 넣은 더 작은 id 를 놓친다)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StudyGroupSearchIndex {
+
+    // 후보가 이보다 많으면 in 절이 오히려 느리므로 인덱스를 쓰지 않는다
+    public static final int MAX_CANDIDATES = 1_000;
+    // 인스턴스 간 시계 차이 여유 (update_date 는 각 인스턴스 시계로 기록됨)
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofMinutes(1);
+
+    private final StudyGroupRepository studyGroupRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // 재적재 중에 들어온 이벤트 (재적재 완료 후 새 세그먼트에 다시 반영)
+    private List<StudyGroupChangedEvent> pendingEvents;
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.rebuild-millis:600000}",
+            initialDelayString = "${app.search.rebuild-millis:600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        // 조회 시작 전 시각 -> 조회 도중 수정된 글도 기준 이후로 잡힌다
+        fresh.indexedSince = LocalDateTime.now().minus(CLOCK_SKEW_MARGIN);
+        List<StudyGroupDocument> documents;
+        try {
+            documents = studyGroupRepository.findAllDocuments();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        documents.forEach(doc -> {
+            fresh.put(doc.getStudyGroupId(), doc.getTitle(), doc.getContent());
+            fresh.lastId = Math.max(fresh.lastId, doc.getStudyGroupId());
+        });
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(fresh::apply);
+            pendingEvents = null;
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("studyGroupSearchIndex loaded, documents: {}, grams: {}", documents.size(), fresh.gramCount());
+    }
+
+    /**
+     * 검색 조건(type=t|c|tc)에 해당할 수 있는 스터디그룹 id 후보
+     * @return 후보 id, 인덱스로 좁힐 수 없으면(검색어 없음, 제목/내용 검색이 아닌 type, 후보 과다) null
+     */
+    public Set<Long> findCandidates(String type, String keyword) {
+        if (!StringUtils.hasText(type) || !StringUtils.hasText(keyword)) {
+            return null;
+        }
+        // 제목/내용 조건이 없으면 검색어로 거르지 않으므로 인덱스로 좁히면 안 된다
+        if (!type.contains("t") && !type.contains("c")) {
+            return null;
+        }
+        Set<String> grams = queryGrams(normalize(keyword));
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            if (type.contains("t")) {
+                candidates.addAll(segment.title.search(grams));
+            }
+            if (type.contains("c")) {
+                candidates.addAll(segment.content.search(grams));
+            }
+            return candidates.size() > MAX_CANDIDATES ? null : candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 마지막 재적재 때 DB 에 있던 가장 큰 id (이후 id 는 인덱스와 무관하게 검색 대상에 포함)
+    public long lastIndexedId() {
+        lock.readLock().lock();
+        try {
+            return segment.lastId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 마지막 재적재 기준 시각 (이후 수정된 글은 인덱스와 무관하게 검색 대상에 포함, 적재 전이면 null)
+    public LocalDateTime indexedSince() {
+        lock.readLock().lock();
+        try {
+            return segment.indexedSince;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.PARTICIPATED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            segment.apply(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인어: 모든 unigram + bigram
+    static Set<String> documentGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어: 한 글자면 unigram, 그 이상이면 bigram 전부
+    static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (keyword.length() == 1) {
+            grams.add(keyword);
+            return grams;
+        }
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 제목/내용 필드별 역색인 묶음 (재적재 시 통째로 교체)
+     */
+    static class Segment {
+
+        private final Postings title = new Postings();
+        private final Postings content = new Postings();
+        // 재적재 기준 (DB 재적재에서만 설정)
+        private long lastId;
+        private LocalDateTime indexedSince;
+
+        void put(Long id, String titleText, String contentText) {
+            title.put(id, normalize(titleText));
+            content.put(id, normalize(contentText));
+        }
+
+        void apply(StudyGroupChangedEvent event) {
+            if (event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+                title.remove(event.getStudyGroupId());
+                content.remove(event.getStudyGroupId());
+            } else if (event.getTitle() != null) {
+                put(event.getStudyGroupId(), event.getTitle(), event.getContent());
+            }
+        }
+
+        int gramCount() {
+            return title.postings.size() + content.postings.size();
+        }
+    }
+
+    /**
+     * 한 필드의 역색인 (gram -> 문서 id, 문서 id -> gram)
+     */
+    static class Postings {
+
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final Map<Long, Set<String>> docGrams = new HashMap<>();
+
+        void put(Long id, String text) {
+            remove(id);
+            Set<String> grams = documentGrams(text);
+            docGrams.put(id, grams);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id));
+        }
+
+        void remove(Long id) {
+            Set<String> grams = docGrams.remove(id);
+            if (grams == null) {
+                return;
+            }
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        // 모든 gram 을 포함하는 문서 (가장 짧은 posting 부터 교집합)
+        Set<Long> search(Set<String> grams) {
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(ids);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            Set<Long> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+    }
+}
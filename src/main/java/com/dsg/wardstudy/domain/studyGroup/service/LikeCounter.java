@@ -0,0 +1,92 @@
+package com.dsg.wardstudy.domain.studyGroup.service;
+
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupLikedEvent;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스터디그룹 좋아요 카운터 (write-behind)
+ * 좋아요는 그룹별 LongAdder 에만 더하고, 주기적으로 모아서 study_group.like_count 에 batch 로 반영한다.
+ * 조회는 like_count 컬럼 + 아직 반영 안 된 이 인스턴스의 증가분. (다른 인스턴스 증가분은 flush 주기만큼 늦게 보인다)
+ * 증가분은 메모리에만 있으므로 인스턴스가 비정상 종료(kill -9 등)되면 마지막 flush 이후 증가분(최대 flush-millis 분량)이
+ * like_count 에서 빠진다. (likes 행은 커밋되어 있음) 이 오차는 likes 테이블 기준 주기 재집계(recount-cron)로 맞춘다.
+ * 재집계 시점에 다른 인스턴스가 들고 있던 증가분은 한 번 더 더해질 수 있으나 다음 재집계에서 다시 맞춰진다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class LikeCounter {
+
+    private final StudyGroupJdbcRepository studyGroupJdbcRepository;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 기존 likes 데이터로 like_count 를 채울 때만 켠다 (컬럼 추가 직후 1회)
+    @Value("${app.like.recount-on-startup:false}")
+    private boolean recountOnStartup;
+
+    @PostConstruct
+    public void recountOnStartup() {
+        if (recountOnStartup) {
+            recount();
+        }
+    }
+
+    // 유실된 증가분 보정 (이 인스턴스 증가분은 먼저 반영해서 중복으로 더하지 않음)
+    @Scheduled(cron = "${app.like.recount-cron:0 30 4 * * *}")
+    public void recount() {
+        flush();
+        int updated = studyGroupJdbcRepository.recountLikes();
+        log.info("likeCounter recount, studyGroups: {}", updated);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLiked(StudyGroupLikedEvent event) {
+        pending.computeIfAbsent(event.getStudyGroupId(), id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public long pendingCount(Long studyGroupId) {
+        LongAdder adder = pending.get(studyGroupId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.like.flush-millis:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 엔트리는 지우지 않는다 (지우는 사이 들어온 증가분이 유실되지 않도록, 그룹 수만큼만 남음)
+        pending.forEach((studyGroupId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(studyGroupId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            studyGroupJdbcRepository.addLikeCounts(deltas);
+            log.debug("likeCounter flush, studyGroups: {}", deltas.size());
+        } catch (RuntimeException e) {
+            // 반영 실패분은 되돌려서 다음 flush 때 다시 시도
+            log.error("likeCounter flush 실패, studyGroups: {}", deltas.size(), e);
+            deltas.forEach((studyGroupId, delta) ->
+                    pending.computeIfAbsent(studyGroupId, id -> new LongAdder()).add(delta));
+        }
+    }
+}
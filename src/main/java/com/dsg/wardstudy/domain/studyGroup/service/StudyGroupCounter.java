@@ -0,0 +1,45 @@
+package com.dsg.wardstudy.domain.studyGroup.service;
+
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.types.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 스터디그룹 게시판 전체 건수 (근사값)
+ * 검색 조건별 count 결과를 잠깐 캐시해서 페이지마다 count 쿼리가 나가지 않게 한다.
+ * 등록/삭제 커밋 이후 비우고, 그 외에는 TTL 동안 이전 값을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyGroupCounter {
+
+    private static final Duration COUNT_TTL = Duration.ofMinutes(1L);
+    private static final long MAX_CONDITIONS = 1_000L;
+
+    private final StudyGroupRepository studyGroupRepository;
+
+    private final Cache<String, Long> counts = Caffeine.newBuilder()
+            .maximumSize(MAX_CONDITIONS)
+            .expireAfterWrite(COUNT_TTL)
+            .build();
+
+    public long count(String type, String keyword, Predicate condition) {
+        return counts.get(type + ":" + keyword, key -> studyGroupRepository.count(condition));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyGroupChanged(StudyGroupChangedEvent event) {
+        if (event.getType() == StudyGroupChangedEvent.Type.REGISTERED
+                || event.getType() == StudyGroupChangedEvent.Type.DELETED) {
+            counts.invalidateAll();
+        }
+    }
+}
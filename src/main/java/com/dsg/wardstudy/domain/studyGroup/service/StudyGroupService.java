@@ -16,6 +16,8 @@ public interface StudyGroupService {
 
     PageResponse.StudyGroupDetail getAll(Pageable pageable, String type, String keyword);
 
+    PageResponse.StudyGroupCursor getAllByCursor(Long cursor, int size, String type, String keyword, boolean withCount);
+
     Long updateById(Long userId, Long studyGroupId, StudyGroupRequest studyGroupRequest);
 
     void deleteById(Long userId, Long studyGroupId);
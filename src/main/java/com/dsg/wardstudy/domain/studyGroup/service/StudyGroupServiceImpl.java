@@ -2,19 +2,26 @@ package com.dsg.wardstudy.domain.studyGroup.service;
 
 import com.dsg.wardstudy.common.exception.ErrorCode;
 import com.dsg.wardstudy.common.exception.WSApiException;
-import com.dsg.wardstudy.domain.attach.entity.Attach;
+import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
 import com.dsg.wardstudy.domain.studyGroup.entity.Like;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupLikedEvent;
 import com.dsg.wardstudy.domain.studyGroup.entity.QStudyGroup;
 import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
 import com.dsg.wardstudy.domain.studyGroup.dto.PageResponse;
 import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupRequest;
 import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupResponse;
+import com.dsg.wardstudy.domain.studyGroup.search.StudyGroupSearchIndex;
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.dsg.wardstudy.domain.user.entity.User;
 import com.dsg.wardstudy.domain.user.entity.UserGroup;
+import com.dsg.wardstudy.repository.attach.AttachJdbcRepository;
 import com.dsg.wardstudy.repository.attach.AttachRepository;
 import com.dsg.wardstudy.repository.like.LikeRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationQueryRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationRepository;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupQueryRepository;
 import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
 import com.dsg.wardstudy.repository.user.UserGroupRepository;
 import com.dsg.wardstudy.repository.user.UserRepository;
@@ -23,16 +30,21 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.dsg.wardstudy.config.redis.RedisCacheKey.STUDY_GROUP_LIST;
@@ -42,15 +54,24 @@ import static com.dsg.wardstudy.config.redis.RedisCacheKey.STUDY_GROUP_LIST;
 @RequiredArgsConstructor
 public class StudyGroupServiceImpl implements StudyGroupService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final StudyGroupRepository studyGroupRepository;
+    private final StudyGroupQueryRepository studyGroupQueryRepository;
+    private final StudyGroupCounter studyGroupCounter;
+    private final StudyGroupSearchIndex studyGroupSearchIndex;
     private final UserGroupRepository userGroupRepository;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationQueryRepository reservationQueryRepository;
 
     private final LikeRepository likeRepository;
+    private final LikeCounter likeCounter;
 
     private final AttachRepository attachRepository;
+    private final AttachJdbcRepository attachJdbcRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -73,12 +94,13 @@ public class StudyGroupServiceImpl implements StudyGroupService {
                 .userType(UserType.LEADER)
                 .build();
         UserGroup savedUserGroup = userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(StudyGroupChangedEvent.of(
+                StudyGroupChangedEvent.Type.REGISTERED, savedStudyGroup, List.of(findUser.getId())));
 
         // 파일 첨부 있을시
-        if (studyGroupRequest.getAttachDTOS() != null && studyGroupRequest.getAttachDTOS().size() != 0) {
-            studyGroupRequest.getAttachDTOS().forEach(attachDTO -> {
-                attachRepository.save(Attach.of(attachDTO, savedStudyGroup));
-            });
+        Map<String, AttachDTO> attaches = distinctByUuid(studyGroupRequest.getAttachDTOS());
+        if (!attaches.isEmpty()) {
+            attachJdbcRepository.batchInsert(savedStudyGroup.getId(), attaches.values());
         }
 
         return StudyGroupResponse.mapToDto(savedUserGroup);
@@ -110,6 +132,29 @@ public class StudyGroupServiceImpl implements StudyGroupService {
         return PageResponse.of(pageable, studyGroupResponsePage);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse.StudyGroupCursor getAllByCursor(Long cursor, int size, String type, String keyword,
+                                                        boolean withCount) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, "size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        BooleanBuilder booleanBuilder = getSearch(type, keyword);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<StudyGroupResponse> content = studyGroupQueryRepository.findByCursor(booleanBuilder, cursor, size + 1)
+                .stream()
+                .map(StudyGroupResponse::mapToDto)
+                .collect(Collectors.toList());
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        Long totalElements = withCount ? studyGroupCounter.count(type, keyword, booleanBuilder) : null;
+        return PageResponse.ofCursor(size, content, hasNext, totalElements);
+    }
+
     private BooleanBuilder getSearch(String type, String keyword) {
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         QStudyGroup qStudyGroup = QStudyGroup.studyGroup;
@@ -129,48 +174,93 @@ public class StudyGroupServiceImpl implements StudyGroupService {
         }
         // 모든 조건 통합
         booleanBuilder.and(conditionBuilder);
+
+        // 역색인으로 후보 id 를 먼저 좁힌다 (LIKE 조건은 후보 안에서만 최종 판별)
+        // 마지막 재적재 이후 등록/수정된 글은 다른 인스턴스 변경일 수 있으므로 항상 포함
+        Set<Long> candidates = studyGroupSearchIndex.findCandidates(type, keyword);
+        if (candidates != null) {
+            BooleanExpression notIndexedYet = qStudyGroup.id.gt(studyGroupSearchIndex.lastIndexedId());
+            LocalDateTime indexedSince = studyGroupSearchIndex.indexedSince();
+            if (indexedSince != null) {
+                notIndexedYet = notIndexedYet.or(qStudyGroup.modifiedDate.goe(indexedSince));
+            }
+            booleanBuilder.and(candidates.isEmpty() ? notIndexedYet : qStudyGroup.id.in(candidates).or(notIndexedYet));
+        }
         return booleanBuilder;
     }
 
-    @CacheEvict(key = "#userId", value = STUDY_GROUP_LIST, cacheManager = "redisCacheManager")
     @Transactional
     @Override
     public Long updateById(Long userId, Long studyGroupId, StudyGroupRequest studyGroupRequest) {
 
         StudyGroup studyGroup = validateStudyGroup(userId, studyGroupId);
 
-        // 파일첨부시
-        attachRepository.deleteAllByStudyGroupId(studyGroup.getId());
-
         studyGroup.update(studyGroupRequest.getTitle(), studyGroupRequest.getContent());
         log.info("studyGroup: {}", studyGroup);
+        // 멤버 전원의 스터디그룹 목록 캐시 삭제 (커밋 이후)
+        eventPublisher.publishEvent(StudyGroupChangedEvent.of(StudyGroupChangedEvent.Type.UPDATED,
+                studyGroup, userGroupRepository.findUserIdsBySGId(studyGroup.getId())));
 
-        // 게시판 수정 후 attach insert 가능하게 처리
-        if (studyGroupRequest.getAttachDTOS() != null && studyGroupRequest.getAttachDTOS().size() != 0) {
-            studyGroupRequest.getAttachDTOS().forEach(attachDTO -> {
-                attachRepository.save(Attach.of(attachDTO, studyGroup));
-            });
-        }
+        // 파일첨부시
+        syncAttaches(studyGroup.getId(), studyGroupRequest.getAttachDTOS());
 
         return studyGroup.getId();
 
     }
 
+    /**
+     * 요청의 첨부 목록을 최종 상태로 보고 uuid 기준으로 비교해서 반영
+     * 빠진 첨부는 bulk delete 1번, 새 첨부는 batch insert 1번 (첨부 수와 상관없이 왕복 횟수 일정)
+     */
+    private void syncAttaches(Long studyGroupId, List<AttachDTO> attachDTOS) {
+        Map<String, AttachDTO> requested = distinctByUuid(attachDTOS);
+        List<String> existing = attachRepository.findUuidsByStudyGroupId(studyGroupId);
+
+        List<String> removed = existing.stream()
+                .filter(uuid -> !requested.containsKey(uuid))
+                .collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            attachRepository.deleteByStudyGroupIdAndUuidIn(studyGroupId, removed);
+        }
+
+        existing.forEach(requested::remove);
+        if (!requested.isEmpty()) {
+            attachJdbcRepository.batchInsert(studyGroupId, requested.values());
+        }
+        log.debug("attach sync, studyGroupId: {}, removed: {}, added: {}", studyGroupId, removed.size(), requested.size());
+    }
+
+    // 같은 uuid 가 여러 번 오면 처음 것만 (요청 순서 유지)
+    private Map<String, AttachDTO> distinctByUuid(List<AttachDTO> attachDTOS) {
+        Map<String, AttachDTO> distinct = new LinkedHashMap<>();
+        if (attachDTOS != null) {
+            attachDTOS.forEach(attachDTO -> distinct.putIfAbsent(attachDTO.getUuid(), attachDTO));
+        }
+        return distinct;
+    }
+
     @Transactional
     @Override
     public void deleteById(Long userId, Long studyGroupId) {
+        Optional<StudyGroup> studyGroup = validateDeleteStudyGroup(userId, studyGroupId);
+        log.info("studyGroup: {}", studyGroup);
+        // user_group 은 cascade 로 같이 삭제되므로 멤버 id 는 삭제 전에 조회
+        List<Long> memberIds = userGroupRepository.findUserIdsBySGId(studyGroupId);
         // 외래키를 가진 자식테이블 Reservation이 먼저 삭제되어야만 부모테이블인 StudyGroup도 지울 수 있음!
         reservationQueryRepository.findByUserIdAndStudyGroupId(userId, studyGroupId)
                 .ifPresent(reservation -> {
                     log.info("reservation: {}", reservation);
                     reservationRepository.delete(reservation);
+                    eventPublisher.publishEvent(ReservationChangedEvent.deleted(reservation));
                 });
-        Optional<StudyGroup> studyGroup = validateDeleteStudyGroup(userId, studyGroupId);
-        log.info("studyGroup: {}", studyGroup);
-        studyGroup.ifPresent(studyGroupRepository::delete);
+        studyGroup.ifPresent(sg -> {
+            studyGroupRepository.delete(sg);
+            eventPublisher.publishEvent(StudyGroupChangedEvent.of(
+                    StudyGroupChangedEvent.Type.DELETED, studyGroupId, memberIds));
+        });
     }
 
-    @Cacheable(key = "#userId", value = STUDY_GROUP_LIST, cacheManager = "redisCacheManager")
+    @Cacheable(key = "#userId", value = STUDY_GROUP_LIST, cacheManager = "layeredCacheManager", sync = true)
     @Transactional(readOnly = true)
     @Override
     public List<StudyGroupResponse> getAllByUserId(Long userId) {
@@ -219,85 +309,68 @@ public class StudyGroupServiceImpl implements StudyGroupService {
                 .userType(UserType.PARTICIPANT)
                 .build();
 
-        return userGroupRepository.save(userGroup);
+        UserGroup savedUserGroup = userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(StudyGroupChangedEvent.of(
+                StudyGroupChangedEvent.Type.PARTICIPATED, participateStudyGroup.getId(), List.of(participateUser.getId())));
+        return savedUserGroup;
 
     }
 
     @Transactional
     @Override
     public void like(Long userId, Long studyGroupId) {
-        User findUser = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a User by userId: " + userId);
-                });
-
-        StudyGroup findStudyGroup = studyGroupRepository.findById(studyGroupId)
-                .orElseThrow(() -> {
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a StudyGroup by " +
-                            " studyGroupId: " + studyGroupId);
-                });
-        // check liked -> throw
-        likeRepository.findByUserId(findUser.getId()).ifPresent(it -> {
-            throw new WSApiException(ErrorCode.DUPLICATED_ENTITY,
-                    String.format("userId %d already like studygroup %d", userId, studyGroupId));
-        });
-        likeRepository.save(Like.of(findUser, findStudyGroup));
+        // 조회 없이 insert 한 번 (user/studyGroup 은 프록시 참조로 FK 만 채움)
+        // 중복 좋아요는 likes (study_group_id, user_id) 유니크 제약, 없는 user/studyGroup 은 FK 제약으로 걸러짐
+        try {
+            likeRepository.saveAndFlush(Like.of(userRepository.getById(userId), studyGroupRepository.getById(studyGroupId)));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicatedLike(e)) {
+                throw new WSApiException(ErrorCode.DUPLICATED_ENTITY,
+                        String.format("userId %d already like studygroup %d", userId, studyGroupId));
+            }
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY,
+                    String.format("can't find a User %d or StudyGroup %d", userId, studyGroupId));
+        }
+        // 좋아요 수는 커밋 이후 카운터에 더하고 주기적으로 like_count 에 반영
+        eventPublisher.publishEvent(new StudyGroupLikedEvent(studyGroupId, userId));
     }
 
     @Transactional(readOnly = true)
     @Override
     public int likeCount(Long studyGroupId) {
-        studyGroupRepository.findById(studyGroupId)
+        StudyGroup studyGroup = studyGroupRepository.findById(studyGroupId)
                 .orElseThrow(() -> new WSApiException(ErrorCode.NO_FOUND_ENTITY, "no studyGroup"));
 
-        return likeRepository.countByStudyGroupId(studyGroupId);
+        return Math.toIntExact(studyGroup.getLikeCount() + likeCounter.pendingCount(studyGroupId));
     }
 
-    private Optional<StudyGroup> validateDeleteStudyGroup(Long userId, Long studyGroupId) {
-        User findUser = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("user 대상이 없습니다. userId: {}", userId);
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a User by userId: " + userId);
-                });
-
-        UserType findUserType = userGroupRepository.findUserTypeByUserIdAndSGId(findUser.getId(), studyGroupId)
-                .orElseThrow(() -> new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다."));
+    private boolean isDuplicatedLike(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(Like.UNIQUE_CONSTRAINT);
+    }
 
-        Optional.of(findUserType).ifPresent(userType -> {
-            if (!userType.equals(UserType.LEADER)) {
-                log.error("userType이 Leader가 아닙니다.");
-                throw new WSApiException(ErrorCode.INVALID_REQUEST,
-                        "StudyGroup modification is possible only if the user is the leader."
-                );
-            }
-        });
+    private Optional<StudyGroup> validateDeleteStudyGroup(Long userId, Long studyGroupId) {
+        validateLeader(userId, studyGroupId);
         return studyGroupRepository.findById(studyGroupId);
     }
 
     private StudyGroup validateStudyGroup(Long userId, Long studyGroupId) {
-        User findUser = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("user 대상이 없습니다. userId: {}", userId);
-                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a User by userId: " + userId);
-                });
-
-        StudyGroup findStudyGroup = studyGroupRepository.findById(studyGroupId)
+        validateLeader(userId, studyGroupId);
+        return studyGroupRepository.findById(studyGroupId)
                 .orElseThrow(() -> {
                     log.error("studyGroup 대상이 없습니다. studyGroupId: {}", studyGroupId);
                     throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a StudyGroup by " +
                             " studyGroupId: " + studyGroupId);
                 });
+    }
 
-        UserType findUserType = userGroupRepository.findUserTypeByUserIdAndSGId(findUser.getId(), findStudyGroup.getId())
-                .orElseThrow(() -> new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다."));
-
-        Optional.of(findUserType).ifPresent(userType -> {
-            if (!userType.equals(UserType.LEADER)) {
-                log.error("userType이 Leader가 아닙니다.");
-                throw new WSApiException(ErrorCode.INVALID_REQUEST,
-                        "StudyGroup modification is possible only if the user is the leader.");
-            }
-        });
-        return findStudyGroup;
+    // user/studyGroup 존재 여부와 리더 권한을 쿼리 한 번으로 확인
+    private MembershipContext validateLeader(Long userId, Long studyGroupId) {
+        return userGroupRepository.findMembershipContext(userId, studyGroupId, null)
+                .orElseThrow(() -> {
+                    log.error("user 대상이 없습니다. userId: {}", userId);
+                    throw new WSApiException(ErrorCode.NO_FOUND_ENTITY, "can't find a User by userId: " + userId);
+                })
+                .validateLeader("StudyGroup modification is possible only if the user is the leader.");
     }
 }
@@ -0,0 +1,65 @@
+package com.dsg.wardstudy.domain.user.dto;
+
+import com.dsg.wardstudy.common.exception.ErrorCode;
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.domain.user.constant.UserType;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 유저의 스터디그룹 내 권한 + 룸 존재 여부를 한 번에 조회한 결과
+ * (UserGroupRepository.findMembershipContext, 없는 studyGroup/room/권한은 null)
+ */
+@Log4j2
+@Getter
+@ToString
+public class MembershipContext {
+
+    private final Long userId;
+    private final String userEmail;
+    private final Long studyGroupId;
+    private final String studyGroupTitle;
+    private final UserType userType;
+    private final Long roomId;
+    private final String roomName;
+
+    public MembershipContext(Long userId, String userEmail, Long studyGroupId, String studyGroupTitle,
+                             UserType userType, Long roomId, String roomName) {
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.studyGroupId = studyGroupId;
+        this.studyGroupTitle = studyGroupTitle;
+        this.userType = userType;
+        this.roomId = roomId;
+        this.roomName = roomName;
+    }
+
+    public boolean isLeader() {
+        return UserType.LEADER.equals(userType);
+    }
+
+    // studyGroup 존재 + 리더 여부 확인
+    public MembershipContext validateLeader(String errorMessage) {
+        if (studyGroupId == null) {
+            log.error("studyGroup 대상이 없습니다. userId: {}", userId);
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
+        }
+        if (userType == null) {
+            throw new WSApiException(ErrorCode.NOT_FOUND_USER, "studyGroup 등록자가 아닙니다.");
+        }
+        if (!isLeader()) {
+            log.error("userType이 Leader가 아닙니다.");
+            throw new WSApiException(ErrorCode.INVALID_REQUEST, errorMessage);
+        }
+        return this;
+    }
+
+    public MembershipContext validateRoom() {
+        if (roomId == null) {
+            log.error("room 대상이 없습니다. userId: {}, studyGroupId: {}", userId, studyGroupId);
+            throw new WSApiException(ErrorCode.NO_FOUND_ENTITY);
+        }
+        return this;
+    }
+}
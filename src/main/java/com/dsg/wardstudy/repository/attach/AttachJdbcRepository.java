@@ -0,0 +1,41 @@
+package com.dsg.wardstudy.repository.attach;
+
+import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 게시글 첨부 일괄 등록용 JDBC batch insert
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 묶지 못하므로 JdbcTemplate 으로 직접 묶는다.
+ * (datasource url 의 rewriteBatchedStatements=true 로 multi-row insert 로 전송)
+ * 컬럼명은 PhysicalNamingStrategyStandardImpl 매핑 그대로 (uploadPath, fileName 은 필드명이 곧 컬럼명)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = "insert into attach " +
+            "(uuid, uploadPath, fileName, image, study_group_id, create_date, update_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long studyGroupId, Collection<AttachDTO> attachDTOS) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, attachDTOS, BATCH_SIZE, (ps, attachDTO) -> {
+            ps.setString(1, attachDTO.getUuid());
+            ps.setString(2, attachDTO.getUploadPath());
+            ps.setString(3, attachDTO.getFileName());
+            ps.setBoolean(4, attachDTO.isImage());
+            ps.setLong(5, studyGroupId);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
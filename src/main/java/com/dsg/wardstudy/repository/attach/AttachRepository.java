@@ -2,12 +2,26 @@ package com.dsg.wardstudy.repository.attach;
 
 import com.dsg.wardstudy.domain.attach.entity.Attach;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface AttachRepository extends JpaRepository<Attach, Long> {
 
-    void deleteAllByStudyGroupId(Long sgId);
-
     List<Attach> findAllByStudyGroupId(Long sgId);
+
+    Optional<Attach> findByUuid(String uuid);
+
+    // 게시글 수정 시 기존 첨부와 비교용 (엔티티는 로딩하지 않음)
+    @Query("select a.uuid from Attach a where a.studyGroup.id = :sgId")
+    List<String> findUuidsByStudyGroupId(@Param("sgId") Long sgId);
+
+    // select 후 건별 delete 대신 한 번에 삭제 (clear 하면 수정 중인 studyGroup 변경분이 날아가므로 하지 않음)
+    @Modifying
+    @Query("delete from Attach a where a.studyGroup.id = :sgId and a.uuid in :uuids")
+    int deleteByStudyGroupIdAndUuidIn(@Param("sgId") Long sgId, @Param("uuids") Collection<String> uuids);
 }
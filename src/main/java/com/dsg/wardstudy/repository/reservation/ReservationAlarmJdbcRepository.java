@@ -0,0 +1,71 @@
+package com.dsg.wardstudy.repository.reservation;
+
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예약 알림 수신자별 발송 기록 / 발송 완료 반영
+ * 발송 기록은 batch insert 로 남기고(이미 있으면 무시), is_email_sent 는 멤버 전원 발송이 확인된 예약만 update 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationAlarmJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_DELIVERY_SQL = "insert ignore into reservation_alarm_delivery " +
+            "(reservation_id, user_id, sent_at) values (?, ?, ?)";
+    // 멤버 전원에게 발송 기록이 있는 예약
+    private static final String FULLY_DELIVERED_CONDITION = "not exists (select 1 from user_group ug " +
+            "where ug.study_group_id = r.study_group_id " +
+            "and not exists (select 1 from reservation_alarm_delivery d " +
+            "where d.reservation_id = r.reservation_id and d.user_id = ug.user_id))";
+    // 시작 전 & 미반영 예약 중 멤버 전원 발송 완료된 예약
+    private static final String MARK_SENT_SQL = "update reservation r set r.is_email_sent = true " +
+            "where r.start_time > ? and r.is_email_sent = false and " + FULLY_DELIVERED_CONDITION;
+    // 주어진 예약 중 미반영 & 멤버 전원 발송 완료된 예약 (in 절은 호출 시 채움)
+    private static final String MARK_SENT_BY_IDS_SQL = "update reservation r set r.is_email_sent = true " +
+            "where r.reservation_id in (%s) and r.is_email_sent = false and " + FULLY_DELIVERED_CONDITION;
+    // 이미 시작했거나 삭제된 예약의 발송 기록
+    private static final String PURGE_DELIVERY_SQL = "delete d from reservation_alarm_delivery d " +
+            "left join reservation r on r.reservation_id = d.reservation_id " +
+            "where r.reservation_id is null or r.start_time <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertDeliveries(List<ReservationAlarmItem> delivered) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, delivered, BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getReservationId());
+            ps.setLong(2, item.getRecipientId());
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    public int markFullyDelivered(LocalDateTime now) {
+        return jdbcTemplate.update(MARK_SENT_SQL, Timestamp.valueOf(now));
+    }
+
+    /**
+     * 주어진 예약만 대상으로 멤버 전원 발송 완료 반영 (청크 단위)
+     * @return update 된 예약 수
+     */
+    public int markFullyDelivered(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(reservationIds.size(), "?"));
+        return jdbcTemplate.update(String.format(MARK_SENT_BY_IDS_SQL, placeholders), reservationIds.toArray());
+    }
+
+    public int purgeDeliveries(LocalDateTime now) {
+        return jdbcTemplate.update(PURGE_DELIVERY_SQL, Timestamp.valueOf(now));
+    }
+}
@@ -0,0 +1,67 @@
+package com.dsg.wardstudy.repository.reservation;
+
+import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 일괄 등록용 JDBC batch insert
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 묶지 못하므로 JdbcTemplate 으로 직접 묶는다.
+ * (datasource url 의 rewriteBatchedStatements=true 로 multi-row insert 로 전송)
+ * 생성된 id 는 토큰으로 한 번 더 조회한다. (findIdsByTokens)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = "insert into reservation " +
+            "(reservation_token, start_time, end_time, register_id, study_group_id, room_id, is_email_sent, " +
+            "create_date, update_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_IDS_SQL =
+            "select reservation_id, reservation_token from reservation where reservation_token in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Reservation> reservations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, BATCH_SIZE, (ps, reservation) -> {
+            ps.setString(1, reservation.getReservationToken());
+            ps.setTimestamp(2, Timestamp.valueOf(reservation.getStartTime()));
+            ps.setTimestamp(3, Timestamp.valueOf(reservation.getEndTime()));
+            ps.setLong(4, reservation.getUser().getId());
+            ps.setLong(5, reservation.getStudyGroup().getId());
+            ps.setLong(6, reservation.getRoom().getId());
+            ps.setBoolean(7, reservation.isEmailSent());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * batch insert 는 생성된 id 를 돌려주지 않으므로 토큰(unique)으로 다시 조회
+     * @return reservationToken -> reservationId
+     */
+    public Map<String, Long> findIdsByTokens(List<String> reservationTokens) {
+        Map<String, Long> ids = new HashMap<>();
+        for (int from = 0; from < reservationTokens.size(); from += BATCH_SIZE) {
+            List<String> chunk = reservationTokens.subList(from, Math.min(from + BATCH_SIZE, reservationTokens.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(String.format(SELECT_IDS_SQL, placeholders),
+                    rs -> {
+                        ids.put(rs.getString("reservation_token"), rs.getLong("reservation_id"));
+                    },
+                    chunk.toArray());
+        }
+        return ids;
+    }
+}
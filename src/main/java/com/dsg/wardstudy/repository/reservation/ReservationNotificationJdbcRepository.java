@@ -0,0 +1,45 @@
+package com.dsg.wardstudy.repository.reservation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 변경 알림(Kafka consumer) 수신자별 발송 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationNotificationJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_DELIVERY_SQL = "insert ignore into reservation_notification_delivery " +
+            "(outbox_id, user_id, sent_at) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<Long> findNotifiedUserIds(Long outboxId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select user_id from reservation_notification_delivery where outbox_id = ?", Long.class, outboxId));
+    }
+
+    public void insertDeliveries(Long outboxId, List<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, outboxId);
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    // outbox 보관 기간과 맞춰 정리
+    public int deleteSentBefore(LocalDateTime before) {
+        return jdbcTemplate.update("delete from reservation_notification_delivery where sent_at < ?",
+                Timestamp.valueOf(before));
+    }
+}
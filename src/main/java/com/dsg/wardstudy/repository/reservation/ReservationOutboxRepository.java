@@ -0,0 +1,27 @@
+package com.dsg.wardstudy.repository.reservation;
+
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutbox, Long> {
+
+    // 미발행 outbox 를 잠그고 가져옴 (다른 인스턴스 relay 가 잡은 행은 건너뜀)
+    @Query(value = "select * from reservation_outbox where published_at is null " +
+            "order by outbox_id limit :limit for update skip locked", nativeQuery = true)
+    List<ReservationOutbox> findUnpublishedForUpdate(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservationOutbox o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from ReservationOutbox o where o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
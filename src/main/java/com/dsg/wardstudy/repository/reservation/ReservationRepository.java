@@ -1,15 +1,18 @@
 package com.dsg.wardstudy.repository.reservation;
 
+import com.dsg.wardstudy.domain.reservation.dto.ReservationSlot;
 import com.dsg.wardstudy.domain.reservation.entity.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,8 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("select r from Reservation r where r.reservationToken = :reservationToken")
     Optional<Reservation> findByTokenLock(@Param("reservationToken") String reservationToken);
 
+    Optional<Reservation> findByReservationToken(String reservationToken);
+
     Page<Reservation> findBy(Pageable pageable);
 
     @Query("select r from Reservation r left join fetch r.room where r.room.id = :roomId")
@@ -31,11 +36,43 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                                 @Param("sTime") LocalDateTime sTime,
                                                 @Param("eTime") LocalDateTime eTime);
 
-    @Query("select r from Reservation r left join fetch r.room where r.room.id = :roomId " +
-    "or r.startTime = :sTime or r.endTime = :eTime")
-    List<Reservation> findByRoomIdAndTime(@Param("roomId") Long roomId,
-                                              @Param("sTime") LocalDateTime sTime,
-                                              @Param("eTime") LocalDateTime eTime);
+    // 해당 룸에서 [from, to) 사이에 시작하는 예약 (일자 버킷 캐시 적재용)
+    @Query("select r from Reservation r join fetch r.user join fetch r.studyGroup join fetch r.room " +
+            "where r.room.id = :roomId and r.startTime >= :from and r.startTime < :to order by r.startTime")
+    List<Reservation> findByRoomIdAndStartTimeRange(@Param("roomId") Long roomId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    /**
+     * 해당 룸에서 [sTime, eTime) 구간과 겹치는 예약 존재 여부 (reservationToken 은 제외 대상, null 가능)
+     * 예약은 최대 Reservation.MAX_HOURS 이므로 그 이전에 시작한 예약은 볼 필요가 없다. (idx_reservation_room_time 범위 조회)
+     */
+    default boolean existsOverlap(Long roomId, LocalDateTime sTime, LocalDateTime eTime, String reservationToken) {
+        return existsOverlapStartedAfter(roomId, sTime.minusHours(Reservation.MAX_HOURS), sTime, eTime, reservationToken);
+    }
+
+    @Query("select case when count(r) > 0 then true else false end from Reservation r " +
+            "where r.room.id = :roomId and r.startTime > :minStartTime and r.startTime < :eTime and r.endTime > :sTime " +
+            "and (:reservationToken is null or r.reservationToken <> :reservationToken)")
+    boolean existsOverlapStartedAfter(@Param("roomId") Long roomId,
+                                      @Param("minStartTime") LocalDateTime minStartTime,
+                                      @Param("sTime") LocalDateTime sTime,
+                                      @Param("eTime") LocalDateTime eTime,
+                                      @Param("reservationToken") String reservationToken);
+
+    // 해당 룸에서 [sTime, eTime) 구간과 겹치는 예약 시간대 (existsOverlap 과 같은 범위 조회)
+    default List<ReservationSlot> findSlotsByRoomIdAndPeriod(Long roomId, LocalDateTime sTime, LocalDateTime eTime) {
+        return findSlotsStartedAfter(roomId, sTime.minusHours(Reservation.MAX_HOURS), sTime, eTime);
+    }
+
+    @Query("select new com.dsg.wardstudy.domain.reservation.dto.ReservationSlot(" +
+            "r.room.id, r.reservationToken, r.startTime, r.endTime) from Reservation r " +
+            "where r.room.id = :roomId and r.startTime > :minStartTime and r.startTime < :eTime and r.endTime > :sTime " +
+            "order by r.startTime")
+    List<ReservationSlot> findSlotsStartedAfter(@Param("roomId") Long roomId,
+                                                @Param("minStartTime") LocalDateTime minStartTime,
+                                                @Param("sTime") LocalDateTime sTime,
+                                                @Param("eTime") LocalDateTime eTime);
 
 
     @Query("select r from Reservation r left join fetch r.room where r.room.id = :roomId " +
@@ -45,4 +82,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("select r from Reservation r left join fetch r.studyGroup where r.studyGroup.id in :sgIds")
     List<Reservation> findByStudyGroupIds(@Param("sgIds") List<Long> sgIds);
 
+    // 알림 메일 발송 완료 일괄 반영
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.isEmailSent = true where r.id in :ids and r.isEmailSent = false")
+    int updateIsEmailSentByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,40 @@
+package com.dsg.wardstudy.repository.studyGroup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 수 컬럼(like_count) 일괄 반영용
+ * 그룹별 증가분을 한 번의 batch update 로 더한다. (덮어쓰지 않고 더하므로 여러 인스턴스가 동시에 반영해도 안전)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyGroupJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String ADD_LIKE_COUNT_SQL =
+            "update study_group set like_count = like_count + ? where study_group_id = ?";
+    private static final String RECOUNT_LIKE_SQL =
+            "update study_group sg set sg.like_count = " +
+            "(select count(*) from likes l where l.study_group_id = sg.study_group_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    // likes 테이블 기준으로 전체 재집계
+    public int recountLikes() {
+        return jdbcTemplate.update(RECOUNT_LIKE_SQL);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dsg.wardstudy.repository.studyGroup;
+
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.dsg.wardstudy.domain.studyGroup.entity.QStudyGroup.studyGroup;
+
+
+@Repository
+public class StudyGroupQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public StudyGroupQueryRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 커서(study_group_id) 기반 페이징 (id 내림차순, count 쿼리 없음)
+     * @param cursor 이전 페이지 마지막 id (첫 페이지는 null)
+     */
+    public List<StudyGroup> findByCursor(Predicate condition, Long cursor, int limit) {
+        return queryFactory
+                .selectFrom(studyGroup)
+                .where(condition,
+                        cursor == null ? null : studyGroup.id.lt(cursor))
+                .orderBy(studyGroup.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
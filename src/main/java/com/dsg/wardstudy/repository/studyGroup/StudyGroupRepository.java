@@ -1,7 +1,9 @@
 package com.dsg.wardstudy.repository.studyGroup;
 
+import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupDocument;
 import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
 import java.util.List;
@@ -10,4 +12,9 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long>, Q
 
     // in 절안에 컬렉션 findByIdIn
     List<StudyGroup> findByIdIn(List<Long> ids);
+
+    // 검색 인덱스 적재용
+    @Query("select new com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupDocument(sg.id, sg.title, sg.content)" +
+            " from StudyGroup sg")
+    List<StudyGroupDocument> findAllDocuments();
 }
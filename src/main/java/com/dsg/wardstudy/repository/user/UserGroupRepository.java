@@ -1,5 +1,6 @@
 package com.dsg.wardstudy.repository.user;
 
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.dsg.wardstudy.domain.user.entity.User;
 import com.dsg.wardstudy.domain.user.entity.UserGroup;
 import com.dsg.wardstudy.domain.user.constant.UserType;
@@ -21,9 +22,24 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
     @Query("select ug.userType from UserGroup ug where ug.user.id = :userId and ug.studyGroup.id = :sgId")
     Optional<UserType> findUserTypeByUserIdAndSGId(@Param("userId") Long userId, @Param("sgId") Long sgId);
 
+    // 유저 권한 + studyGroup/room 존재 여부 한 번에 조회 (roomId 는 null 가능)
+    @Query("select new com.dsg.wardstudy.domain.user.dto.MembershipContext(" +
+            "u.id, u.email, sg.id, sg.title, ug.userType, rm.id, rm.name) " +
+            "from User u " +
+            "left join StudyGroup sg on sg.id = :sgId " +
+            "left join UserGroup ug on ug.user.id = u.id and ug.studyGroup.id = sg.id " +
+            "left join Room rm on rm.id = :roomId " +
+            "where u.id = :userId")
+    Optional<MembershipContext> findMembershipContext(@Param("userId") Long userId,
+                                                      @Param("sgId") Long sgId,
+                                                      @Param("roomId") Long roomId);
+
     @Query("select ug.studyGroup.id from UserGroup ug where ug.user.id = :userId")
     List<Long> findSgIdsByUserId(@Param("userId") Long userId);
 
+    @Query("select ug.user.id from UserGroup ug where ug.studyGroup.id = :sgId")
+    List<Long> findUserIdsBySGId(@Param("sgId") Long sgId);
+
     @Query("select ug.user from UserGroup ug where ug.studyGroup.id = :sgId")
     List<User> findUserBySGId(@Param("sgId") Long sgId);
 
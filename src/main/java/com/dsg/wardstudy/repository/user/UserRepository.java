@@ -10,6 +10,9 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findBy(Pageable pageable);
 
+    // 배치 파티션 (user_id 범위) 단위 조회
+    Page<User> findByIdBetween(Long minId, Long maxId, Pageable pageable);
+
     Optional<User> findByEmailAndPassword(String email, String password);
 
     Optional<User> findByEmail(String email);
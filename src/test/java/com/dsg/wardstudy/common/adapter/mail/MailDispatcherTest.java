@@ -0,0 +1,108 @@
+package com.dsg.wardstudy.common.adapter.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class MailDispatcherTest {
+
+    private final GreenMail greenMail = new GreenMail(ServerSetupTest.SMTP);
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        greenMail.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (mailDispatcher != null) {
+            mailDispatcher.shutdown();
+        }
+        greenMail.stop();
+    }
+
+    @Test
+    void givenManyMails_whenDispatch_thenAllDeliveredInBatches() throws Exception {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailDispatcher = dispatcher(mailSender, 100);
+        mailDispatcher.start();
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            results.add(mailDispatcher.dispatch("user" + i + "@ward-study.com", "ward-study 예약룸 알림", "<p>" + i + "</p>"));
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).isTrue());
+        assertThat(greenMail.getReceivedMessages()).hasSize(30);
+        MailDispatcherStats stats = mailDispatcher.getStats();
+        assertThat(stats.getSent()).isEqualTo(30L);
+        // 연결 한 번에 여러 통씩 묶어서 발송
+        assertThat(stats.getBatches()).isLessThan(30L);
+    }
+
+    @Test
+    void givenTransientFailure_whenDispatch_thenRetryWithBackoff() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        given(mailSender.createMimeMessage()).willAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        willThrow(new MailSendException("smtp down"))
+                .willDoNothing()
+                .given(mailSender).send(any(MimeMessage[].class));
+        mailDispatcher = dispatcher(mailSender, 100);
+        mailDispatcher.start();
+
+        Boolean result = mailDispatcher.dispatch("user@ward-study.com", "subject", "text").join();
+
+        assertThat(result).isTrue();
+        assertThat(mailDispatcher.getStats().getRetried()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenFullQueue_whenDispatch_thenRejected() {
+        // 워커를 띄우지 않아서 큐가 비워지지 않음
+        mailDispatcher = dispatcher(mock(JavaMailSender.class), 1);
+        mailDispatcher.dispatch("user1@ward-study.com", "subject", "text");
+
+        CompletableFuture<Boolean> rejected = mailDispatcher.dispatch("user2@ward-study.com", "subject", "text");
+
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(mailDispatcher.getStats().getRejected()).isEqualTo(1L);
+    }
+
+    private MailDispatcher dispatcher(JavaMailSender mailSender, int queueCapacity) {
+        return MailDispatcher.builder()
+                .mailSender(mailSender)
+                .workers(2)
+                .queueCapacity(queueCapacity)
+                .maxBatch(10)
+                .offerTimeoutMillis(10L)
+                .maxAttempts(3)
+                .backoffMillis(10L)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dsg.wardstudy.common.adapter.mail;
+
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateTest {
+
+    @Test
+    void givenTemplate_whenRender_thenBindValuesAndEscapeHtml() {
+        MailTemplate<String> template = MailTemplate.compile("<p>{{ name }} 님</p>{{name}}",
+                Map.of("name", MailTemplate.text(name -> name)));
+
+        StringBuilder out = new StringBuilder();
+        template.render(out, "<b>&");
+
+        assertThat(out.toString()).isEqualTo("<p>&lt;b&gt;&amp; 님</p>&lt;b&gt;&amp;");
+    }
+
+    @Test
+    void givenUnknownOrUnclosedPlaceholder_whenCompile_thenThrow() {
+        assertThatThrownBy(() -> MailTemplate.compile("{{unknown}}", Map.<String, MailTemplate.Binding<String>>of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MailTemplate.compile("{{name", Map.of("name", MailTemplate.<String>text(name -> name))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenReservations_whenToMessage_thenRenderDigest() {
+        MailMessageGenerator generator = new MailMessageGenerator();
+        List<ReservationAlarmItem> reservations = List.of(
+                item("자바 스터디", LocalDateTime.of(2022, 11, 3, 6, 30), LocalDateTime.of(2022, 11, 3, 7, 30)),
+                item("스프링 스터디", LocalDateTime.of(2022, 11, 4, 9, 0), LocalDateTime.of(2022, 11, 4, 10, 0)));
+
+        String message = generator.toMessage("홍길동", reservations);
+
+        assertThat(message).isEqualTo("홍길동 님, ward-study 예약룸 알림 전달드립니다.\n" +
+                "<p>스터디그룹: 자바 스터디, 스터디리더: 리더 님</p>\n" +
+                "<p>룸: A룸, 예약시간: 2022-11-03 [06:30]~[07:30] 으로 등록되었습니다! 😣</p>\n" +
+                "<p>스터디그룹: 스프링 스터디, 스터디리더: 리더 님</p>\n" +
+                "<p>룸: A룸, 예약시간: 2022-11-04 [09:00]~[10:00] 으로 등록되었습니다! 😣</p>\n");
+        // 버퍼 재사용 후에도 이전 내용이 남지 않음
+        assertThat(generator.toMessage("홍길동", List.of())).isEqualTo("홍길동 님, ward-study 예약룸 알림 전달드립니다.\n");
+    }
+
+    private ReservationAlarmItem item(String title, LocalDateTime startTime, LocalDateTime endTime) {
+        return ReservationAlarmItem.builder()
+                .studyGroupTitle(title)
+                .registerName("리더")
+                .roomName("A룸")
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
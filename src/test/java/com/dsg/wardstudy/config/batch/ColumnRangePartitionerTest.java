@@ -0,0 +1,52 @@
+package com.dsg.wardstudy.config.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnRangePartitionerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenIdRange_whenPartition_thenSplitIntoGridSizeRanges() {
+        given(jdbcTemplate.queryForObject("select min(user_id) from users", Long.class)).willReturn(1L);
+        given(jdbcTemplate.queryForObject("select max(user_id) from users", Long.class)).willReturn(10L);
+
+        Map<String, ExecutionContext> partitions =
+                new ColumnRangePartitioner(jdbcTemplate, "users", "user_id").partition(4);
+
+        // 구간 크기 3 -> [1,3] [4,6] [7,9] [10,10]
+        assertThat(partitions).hasSize(4);
+        assertRange(partitions.get("partition0"), 1L, 3L);
+        assertRange(partitions.get("partition2"), 7L, 9L);
+        assertRange(partitions.get("partition3"), 10L, 10L);
+    }
+
+    @Test
+    void givenEmptyTable_whenPartition_thenSingleEmptyPartition() {
+        given(jdbcTemplate.queryForObject("select min(user_id) from users", Long.class)).willReturn(null);
+        given(jdbcTemplate.queryForObject("select max(user_id) from users", Long.class)).willReturn(null);
+
+        Map<String, ExecutionContext> partitions =
+                new ColumnRangePartitioner(jdbcTemplate, "users", "user_id").partition(4);
+
+        assertThat(partitions).hasSize(1);
+        assertRange(partitions.get("partition0"), 0L, -1L);
+    }
+
+    private void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertThat(context.getLong(ColumnRangePartitioner.MIN_ID)).isEqualTo(minId);
+        assertThat(context.getLong(ColumnRangePartitioner.MAX_ID)).isEqualTo(maxId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dsg.wardstudy.config.batch;
+
+import com.dsg.wardstudy.domain.reservation.dto.NotificationAlarmDto;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ItemStreamReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationAlarmItemReaderTest {
+
+    @Mock
+    private ItemStreamReader<ReservationAlarmItem> delegate;
+
+    @InjectMocks
+    private NotificationAlarmItemReader notificationAlarmItemReader;
+
+    @Test
+    void givenRowsOrderedByRecipient_whenRead_thenGroupByRecipient() throws Exception {
+        // 수신자 1: 예약 2건, 수신자 2: 예약 1건
+        given(delegate.read()).willReturn(item(1L, 10L), item(1L, 11L), item(2L, 10L), null);
+
+        NotificationAlarmDto first = notificationAlarmItemReader.read();
+        NotificationAlarmDto second = notificationAlarmItemReader.read();
+
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(first.getEmail()).isEqualTo("user1@gmail.com");
+        assertThat(first.getReservations()).extracting(ReservationAlarmItem::getReservationId)
+                .containsExactly(10L, 11L);
+        assertThat(second.getUserId()).isEqualTo(2L);
+        assertThat(second.getReservations()).extracting(ReservationAlarmItem::getReservationId)
+                .containsExactly(10L);
+        assertThat(notificationAlarmItemReader.read()).isNull();
+    }
+
+    private ReservationAlarmItem item(Long recipientId, Long reservationId) {
+        return ReservationAlarmItem.builder()
+                .reservationId(reservationId)
+                .recipientId(recipientId)
+                .recipientEmail("user" + recipientId + "@gmail.com")
+                .recipientName("user" + recipientId)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.dsg.wardstudy.config.batch;
+
+import com.dsg.wardstudy.common.adapter.mail.MailMessageGenerator;
+import com.dsg.wardstudy.common.adapter.mail.MailSendService;
+import com.dsg.wardstudy.domain.reservation.dto.NotificationAlarmDto;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationAlarmItem;
+import com.dsg.wardstudy.repository.reservation.ReservationAlarmJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationAlarmItemWriterTest {
+
+    @Mock
+    private ReservationAlarmJdbcRepository reservationAlarmJdbcRepository;
+    @Mock
+    private MailSendService mailSendService;
+    @Mock
+    private MailMessageGenerator messageGenerator;
+
+    @InjectMocks
+    private NotificationAlarmItemWriter notificationAlarmItemWriter;
+
+    @Test
+    void givenPartialMailFailure_whenWrite_thenRecordOnlySentRecipients() {
+        // given
+        given(messageGenerator.toMessage(anyString(), anyList())).willReturn("message");
+        given(mailSendService.sendMailAsync(eq("user1@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+        given(mailSendService.sendMailAsync(eq("user2@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.failedFuture(new RejectedExecutionException("mail queue is full")));
+
+        // 예약 11 은 user1 만 멤버라 전원 발송 완료
+        given(reservationAlarmJdbcRepository.markFullyDelivered(anyCollection())).willReturn(1);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        notificationAlarmItemWriter.beforeStep(stepExecution);
+
+        // when (예약 10 은 user1, user2 모두 대상 / 예약 11 은 user1 만 대상)
+        notificationAlarmItemWriter.write(List.of(
+                alarm(1L, 10L, 11L),
+                alarm(2L, 10L)
+        ));
+
+        // then (user2 는 발송 기록을 남기지 않음 -> 다음 실행 때 user2 에게만 재발송)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReservationAlarmItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationAlarmJdbcRepository).insertDeliveries(captor.capture());
+        assertThat(captor.getValue().stream()
+                .map(r -> r.getReservationId() + ":" + r.getRecipientId())
+                .collect(Collectors.toList()))
+                .containsExactly("10:1", "11:1");
+
+        // 이 청크에서 발송한 예약만 대상으로 in 절 update 한 번, 반영 건수는 StepExecution 에 누적
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(reservationAlarmJdbcRepository).markFullyDelivered(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly(10L, 11L);
+        assertThat(stepExecution.getExecutionContext().getInt(NotificationAlarmItemWriter.MARKED_SENT_COUNT)).isEqualTo(1);
+    }
+
+    @Test
+    void givenAllMailFailed_whenWrite_thenRecordNothing() {
+        // given
+        given(messageGenerator.toMessage(anyString(), anyList())).willReturn("message");
+        given(mailSendService.sendMailAsync(anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(false));
+
+        // when
+        notificationAlarmItemWriter.write(List.of(alarm(1L, 10L)));
+
+        // then
+        verify(reservationAlarmJdbcRepository, never()).insertDeliveries(anyList());
+        verify(reservationAlarmJdbcRepository, never()).markFullyDelivered(anyCollection());
+    }
+
+    private NotificationAlarmDto alarm(Long userId, Long... reservationIds) {
+        List<ReservationAlarmItem> reservations = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            reservations.add(ReservationAlarmItem.builder()
+                    .reservationId(reservationId)
+                    .recipientId(userId)
+                    .build());
+        }
+        return NotificationAlarmDto.builder()
+                .userId(userId)
+                .email("user" + userId + "@gmail.com")
+                .userName("user" + userId)
+                .reservations(reservations)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.dsg.wardstudy.config.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = {KafkaConsumerConfigTest.TOPIC, KafkaConsumerConfigTest.TOPIC + ".DLT"})
+class KafkaConsumerConfigTest {
+
+    static final String TOPIC = "reservation-notification";
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaMessageListenerContainer<String, String> container;
+    private Consumer<String, String> dltConsumer;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer()));
+
+        Map<String, Object> dltProps = KafkaTestUtils.consumerProps("dlt-test", "false", broker);
+        dltProps.put("auto.offset.reset", "earliest");
+        dltConsumer = new DefaultKafkaConsumerFactory<>(dltProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromAnEmbeddedTopic(dltConsumer, TOPIC + ".DLT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.stop();
+        }
+        dltConsumer.close();
+        kafkaTemplate.destroy();
+    }
+
+    @Test
+    void givenListenerKeepsFailing_whenConsume_thenRetryThenPublishToDlt(EmbeddedKafkaBroker broker) {
+        // given (재시도 2번, backoff 10ms)
+        KafkaConsumerConfig config = new KafkaConsumerConfig();
+        ReflectionTestUtils.setField(config, "maxRetries", 2);
+        ReflectionTestUtils.setField(config, "initialBackoffMillis", 10L);
+        ReflectionTestUtils.setField(config, "maxBackoffMillis", 10L);
+        ReflectionTestUtils.setField(config, "dltSuffix", ".DLT");
+
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("notification-test", "false", broker);
+        consumerProps.put("auto.offset.reset", "earliest");
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setMessageListener((MessageListener<String, String>) record -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("reservation notification 일부 발송 실패");
+        });
+        container = new KafkaMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer()),
+                containerProperties);
+        container.setCommonErrorHandler(config.kafkaErrorHandler(config.deadLetterPublishingRecoverer(kafkaTemplate)));
+        container.start();
+
+        // when
+        kafkaTemplate.send(TOPIC, "3||2022-11-03 06:30:00", "{\"outboxId\":1}");
+        kafkaTemplate.flush();
+
+        // then (처음 1번 + 재시도 2번 이후 DLT)
+        ConsumerRecord<String, String> dlt = KafkaTestUtils.getSingleRecord(dltConsumer, TOPIC + ".DLT",
+                Duration.ofSeconds(30).toMillis());
+        assertThat(dlt.key()).isEqualTo("3||2022-11-03 06:30:00");
+        assertThat(dlt.value()).isEqualTo("{\"outboxId\":1}");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,145 @@
+package com.dsg.wardstudy.config.redis;
+
+import com.dsg.wardstudy.domain.reservation.cache.ReservationDayBucketCache;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.repository.user.UserGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_DAY_BUCKET;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_USER_LIST;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.STUDY_GROUP_LIST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+
+    private CacheManager cacheManager;
+    private CacheInvalidationListener cacheInvalidationListener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                RESERVATION_LIST, RESERVATION_USER_LIST, STUDY_GROUP_LIST, RESERVATION_DAY_BUCKET);
+        cacheInvalidationListener = new CacheInvalidationListener(cacheManager, userGroupRepository);
+
+        cacheManager.getCache(RESERVATION_LIST).put(1L, "room1");
+        cacheManager.getCache(RESERVATION_LIST).put(2L, "room2");
+        cacheManager.getCache(RESERVATION_USER_LIST).put(10L, "user10");
+        cacheManager.getCache(RESERVATION_USER_LIST).put(11L, "user11");
+        cacheManager.getCache(RESERVATION_USER_LIST).put(12L, "user12");
+        cacheManager.getCache(STUDY_GROUP_LIST).put(10L, "user10");
+        cacheManager.getCache(RESERVATION_DAY_BUCKET).put(ReservationDayBucketCache.key(1L, day(3)), "day3");
+        cacheManager.getCache(RESERVATION_DAY_BUCKET).put(ReservationDayBucketCache.key(1L, day(4)), "day4");
+        cacheManager.getCache(RESERVATION_DAY_BUCKET).put(ReservationDayBucketCache.key(1L, day(5)), "day5");
+    }
+
+    @Test
+    void givenReservationDeleted_whenOnReservationChanged_thenEvictRoomAndMemberKeysOnly() {
+        // given - precondition or setup
+        given(userGroupRepository.findUserIdsBySGId(100L)).willReturn(List.of(10L, 11L));
+
+        // when - action or the behaviour that we are going test
+        cacheInvalidationListener.onReservationChanged(ReservationChangedEvent.builder()
+                .type(ReservationChangedEvent.Type.DELETED)
+                .roomId(1L)
+                .studyGroupId(100L)
+                .startTime(day(3).atTime(10, 0))
+                .endTime(day(3).atTime(12, 0))
+                .build());
+
+        // then - verify the output
+        assertThat(cacheManager.getCache(RESERVATION_LIST).get(1L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_LIST).get(2L)).isNotNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(10L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(11L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(12L)).isNotNull();
+        assertThat(cacheManager.getCache(STUDY_GROUP_LIST).get(10L)).isNotNull();
+    }
+
+    @Test
+    void givenStudyGroupUpdated_whenOnStudyGroupChanged_thenEvictMemberKeys() {
+        // when - action or the behaviour that we are going test
+        cacheInvalidationListener.onStudyGroupChanged(StudyGroupChangedEvent.of(
+                StudyGroupChangedEvent.Type.UPDATED, 100L, List.of(10L)));
+
+        // then - verify the output
+        assertThat(cacheManager.getCache(STUDY_GROUP_LIST).get(10L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(10L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(11L)).isNotNull();
+        assertThat(cacheManager.getCache(RESERVATION_LIST).get(1L)).isNotNull();
+    }
+
+    @Test
+    void givenReservationMovedToOtherDay_whenOnReservationChanged_thenEvictBothDayBuckets() {
+        // given - precondition or setup
+        given(userGroupRepository.findUserIdsBySGId(100L)).willReturn(List.of());
+
+        // when - action or the behaviour that we are going test
+        cacheInvalidationListener.onReservationChanged(ReservationChangedEvent.builder()
+                .type(ReservationChangedEvent.Type.UPDATED)
+                .roomId(1L)
+                .studyGroupId(100L)
+                .startTime(day(5).atTime(10, 0))
+                .endTime(day(5).atTime(12, 0))
+                .previousStartTime(day(3).atTime(10, 0))
+                .previousEndTime(day(3).atTime(12, 0))
+                .build());
+
+        // then - verify the output
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(3)))).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(4)))).isNotNull();
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(5)))).isNull();
+    }
+
+    @Test
+    void givenBulkRegistered_whenOnReservationBulkRegistered_thenEvictOncePerKey() {
+        // given - precondition or setup
+        given(userGroupRepository.findUserIdsBySGId(100L)).willReturn(List.of(10L));
+
+        // when - 3일 2건, 5일 1건
+        cacheInvalidationListener.onReservationBulkRegistered(new ReservationBulkRegisteredEvent(1L, 100L, List.of(
+                registered(day(3).atTime(10, 0)), registered(day(3).atTime(14, 0)), registered(day(5).atTime(10, 0)))));
+
+        // then - verify the output
+        verify(userGroupRepository, times(1)).findUserIdsBySGId(100L);
+        assertThat(cacheManager.getCache(RESERVATION_LIST).get(1L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(10L)).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_USER_LIST).get(11L)).isNotNull();
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(3)))).isNull();
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(4)))).isNotNull();
+        assertThat(cacheManager.getCache(RESERVATION_DAY_BUCKET).get(ReservationDayBucketCache.key(1L, day(5)))).isNull();
+    }
+
+    private ReservationChangedEvent registered(LocalDateTime startTime) {
+        return ReservationChangedEvent.builder()
+                .type(ReservationChangedEvent.Type.REGISTERED)
+                .roomId(1L)
+                .studyGroupId(100L)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(2))
+                .build();
+    }
+
+    private LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2022, 11, dayOfMonth);
+    }
+}
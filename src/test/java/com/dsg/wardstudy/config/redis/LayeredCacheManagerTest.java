@@ -0,0 +1,233 @@
+package com.dsg.wardstudy.config.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dsg.wardstudy.config.redis.LayeredCacheManager.INVALIDATION_CHANNEL;
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheManagerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    // 인스턴스끼리 공유하는 Redis(L2) 대신
+    private CacheManager remoteCacheManager;
+    private LayeredCacheManager layeredCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager(RESERVATION_LIST);
+        layeredCacheManager = newInstance();
+    }
+
+    @Test
+    void givenValueOnlyInRemote_whenGet_thenFillLocalAndCountHits() {
+        // given - 다른 인스턴스가 L2 에만 채운 값
+        remote().put(1L, "room1");
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+
+        // when - action or the behaviour that we are going test
+        Object first = cache.get(1L).get();
+        remote().evict(1L);
+        Object second = cache.get(1L).get();
+        Cache.ValueWrapper missing = cache.get(2L);
+
+        // then - 두 번째는 L2 에 없어도 L1 에서 응답
+        assertThat(first).isEqualTo("room1");
+        assertThat(second).isEqualTo("room1");
+        assertThat(missing).isNull();
+        LayeredCacheStats stats = layeredCacheManager.getStats().get(0);
+        assertThat(stats.getCacheName()).isEqualTo(RESERVATION_LIST);
+        assertThat(stats.getRemoteHits()).isEqualTo(1);
+        assertThat(stats.getLocalHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getLocalSize()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void givenPut_whenGet_thenWriteThroughBothLayers() {
+        // given - precondition or setup
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+
+        // when - action or the behaviour that we are going test
+        cache.put(1L, "room1");
+        String loaded = cache.get(2L, () -> "room2");
+
+        // then - verify the output
+        assertThat(remote().get(1L).get()).isEqualTo("room1");
+        assertThat(remote().get(2L).get()).isEqualTo("room2");
+        assertThat(cache.get(2L, () -> "reloaded")).isEqualTo("room2");
+        assertThat(loaded).isEqualTo("room2");
+        assertThat(layeredCacheManager.getStats().get(0).getLocalSize()).isEqualTo(2);
+    }
+
+    @Test
+    void givenEvict_whenEvict_thenRemoveBothLayersAndPublish() {
+        // given - precondition or setup
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+        cache.put(1L, "room1");
+
+        // when - action or the behaviour that we are going test
+        cache.evict(1L);
+
+        // then - verify the output
+        assertThat(remote().get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("|" + RESERVATION_LIST + "|1");
+    }
+
+    @Test
+    void givenOtherInstanceEvict_whenOnMessage_thenInvalidateLocalOnly() {
+        // given - 두 인스턴스가 같은 값을 L1 에 들고 있음
+        LayeredCacheManager other = newInstance();
+        layeredCacheManager.getCache(RESERVATION_LIST).put(1L, "room1");
+        layeredCacheManager.getCache(RESERVATION_LIST).put(2L, "room2");
+        other.getCache(RESERVATION_LIST).get(1L);
+
+        // when - 다른 인스턴스에서 삭제 후 메시지 전달
+        other.getCache(RESERVATION_LIST).evict(1L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(INVALIDATION_CHANNEL), message.capture());
+        layeredCacheManager.onMessage(message(message.getValue()), null);
+
+        // then - 해당 키만 L1 에서 삭제
+        assertThat(layeredCacheManager.getCache(RESERVATION_LIST).get(1L)).isNull();
+        assertThat(layeredCacheManager.getCache(RESERVATION_LIST).get(2L).get()).isEqualTo("room2");
+        assertThat(layeredCacheManager.getStats().get(0).getLocalSize()).isEqualTo(1);
+    }
+
+    @Test
+    void givenOwnOrClearMessage_whenOnMessage_thenIgnoreOwnAndClearOthers() {
+        // given - precondition or setup
+        LayeredCacheManager other = newInstance();
+        layeredCacheManager.getCache(RESERVATION_LIST).clear();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(INVALIDATION_CHANNEL), message.capture());
+        layeredCacheManager.getCache(RESERVATION_LIST).put(1L, "room1");
+        other.getCache(RESERVATION_LIST).put(1L, "room1");
+        other.getCache(RESERVATION_LIST).put(2L, "room2");
+
+        // when - 자기 메시지, 다른 인스턴스의 clear 메시지
+        layeredCacheManager.onMessage(message(message.getValue()), null);
+        other.onMessage(message(message.getValue()), null);
+
+        // then - verify the output
+        assertThat(message.getValue()).endsWith("|" + RESERVATION_LIST + "|");
+        assertThat(layeredCacheManager.getStats().get(0).getLocalSize()).isEqualTo(1);
+        assertThat(other.getStats().get(0).getLocalSize()).isZero();
+    }
+
+    @Test
+    void givenPublishFailure_whenEvict_thenStillEvictLocally() {
+        // given - precondition or setup
+        willThrow(new IllegalStateException("redis down")).given(redisTemplate).convertAndSend(anyString(), any());
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+        cache.put(1L, "room1");
+
+        // when - action or the behaviour that we are going test
+        cache.evict(1L);
+
+        // then - 전파 실패는 로그만 남기고 (다른 인스턴스는 TTL 로 만료) 삭제는 진행
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remote().get(1L)).isNull();
+    }
+
+    @Test
+    void givenConcurrentMiss_whenGetWithLoader_thenLoadOnce() throws Exception {
+        // given - 같은 키를 동시에 8개 요청
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when - action or the behaviour that we are going test
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(100);
+                    return "room1";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then - 원본 조회는 한 번, 나머지는 그 결과를 받음
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("room1");
+        }
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remote().get(1L).get()).isEqualTo("room1");
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenGetWithLoader_thenNotCacheStaleValue() throws Exception {
+        // given - 로딩 중에 삭제(clear)가 일어남
+        Cache cache = layeredCacheManager.getCache(RESERVATION_LIST);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        CompletableFuture<String> stale = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loading.countDown();
+            invalidated.await(5, TimeUnit.SECONDS);
+            return "stale";
+        }));
+
+        // when - action or the behaviour that we are going test
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.clear();
+        invalidated.countDown();
+
+        // then - 요청한 쪽에는 반환하지만 L1/L2 에는 남기지 않음
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(remote().get(1L)).isNull();
+        assertThat(layeredCacheManager.getStats().get(0).getLocalSize()).isZero();
+        assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    private LayeredCacheManager newInstance() {
+        return new LayeredCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1));
+    }
+
+    private Cache remote() {
+        return remoteCacheManager.getCache(RESERVATION_LIST);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
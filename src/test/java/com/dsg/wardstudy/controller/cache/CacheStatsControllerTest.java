@@ -0,0 +1,55 @@
+package com.dsg.wardstudy.controller.cache;
+
+import com.dsg.wardstudy.common.adapter.cache.CacheStatsController;
+import com.dsg.wardstudy.common.auth.AuthUserResolver;
+import com.dsg.wardstudy.config.redis.LayeredCacheManager;
+import com.dsg.wardstudy.config.redis.LayeredCacheStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.dsg.wardstudy.config.redis.RedisCacheKey.RESERVATION_LIST;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(AuthUserResolver.class)
+@WebMvcTest(CacheStatsController.class)
+class CacheStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LayeredCacheManager layeredCacheManager;
+
+    @Test
+    void givenStats_whenGetStats_thenReturnPerCacheCounters() throws Exception {
+        // given - precondition or setup
+        given(layeredCacheManager.getStats()).willReturn(List.of(LayeredCacheStats.builder()
+                .cacheName(RESERVATION_LIST)
+                .localHits(6)
+                .remoteHits(2)
+                .misses(2)
+                .localSize(3)
+                .build()));
+
+        // when - action or the behaviour that we are going test
+        mockMvc.perform(get("/cache/stats"))
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].cacheName", is(RESERVATION_LIST)))
+                .andExpect(jsonPath("$[0].localHits", is(6)))
+                .andExpect(jsonPath("$[0].misses", is(2)))
+                .andExpect(jsonPath("$[0].hitRate", is(0.8)));
+    }
+}
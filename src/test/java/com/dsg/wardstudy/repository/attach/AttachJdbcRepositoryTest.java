@@ -0,0 +1,54 @@
+package com.dsg.wardstudy.repository.attach;
+
+import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
+import com.dsg.wardstudy.domain.attach.entity.Attach;
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 스키마(ddl-auto 로 생성된 컬럼명)에 대해 batch insert SQL 을 실행
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AttachJdbcRepository.class)
+class AttachJdbcRepositoryTest {
+
+    @Autowired
+    private AttachJdbcRepository attachJdbcRepository;
+    @Autowired
+    private AttachRepository attachRepository;
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Test
+    void givenAttaches_whenBatchInsert_thenMappedToEntity() {
+        // given
+        StudyGroup studyGroup = studyGroupRepository.saveAndFlush(StudyGroup.builder()
+                .title("attachSG")
+                .content("첨부 batch insert 테스트")
+                .build());
+        String uuid1 = UUID.randomUUID().toString();
+        String uuid2 = UUID.randomUUID().toString();
+
+        // when
+        attachJdbcRepository.batchInsert(studyGroup.getId(), List.of(
+                AttachDTO.builder().uuid(uuid1).uploadPath("test-bucket").fileName("a.png").image(true).build(),
+                AttachDTO.builder().uuid(uuid2).uploadPath("test-bucket").fileName("b.txt").image(false).build()));
+
+        // then
+        assertThat(attachRepository.findUuidsByStudyGroupId(studyGroup.getId())).containsExactlyInAnyOrder(uuid1, uuid2);
+        Attach attach = attachRepository.findByUuid(uuid1).orElseThrow();
+        assertThat(attach.getUploadPath()).isEqualTo("test-bucket");
+        assertThat(attach.getFileName()).isEqualTo("a.png");
+        assertThat(attach.isImage()).isTrue();
+        assertThat(attach.getCreatedDate()).isNotNull();
+    }
+}
@@ -116,6 +116,22 @@ class ReservationRepositoryTest {
 
     }
 
+    @Test
+    public void givenReservation_whenExistsOverlap_thenMatchOnlyOverlappingPeriod() {
+        // given - 10:30 ~ 12:30 예약
+        Reservation savedReservation = getReservation();
+        Long roomId = savedReservation.getRoom().getId();
+        LocalDateTime day = LocalDateTime.of(2022, 4, 24, 0, 0);
+
+        // when, then - 4시간 범위 조회 안에서 겹치는 경우만 true
+        assertThat(reservationRepository.existsOverlap(roomId, day.withHour(12), day.withHour(14), null)).isTrue();
+        assertThat(reservationRepository.existsOverlap(roomId, day.withHour(9), day.withHour(11), null)).isTrue();
+        assertThat(reservationRepository.existsOverlap(roomId, day.withHour(12).withMinute(30), day.withHour(14), null)).isFalse();
+        assertThat(reservationRepository.existsOverlap(roomId, day.withHour(8), day.withHour(10).withMinute(30), null)).isFalse();
+        assertThat(reservationRepository.existsOverlap(roomId, day.withHour(11), day.withHour(12),
+                savedReservation.getReservationToken())).isFalse();
+    }
+
     @Test
     public void givenRoomId_whenFindById_thenReturnReservationList() {
         // getByRoomId
@@ -0,0 +1,52 @@
+package com.dsg.wardstudy.repository.studyGroup;
+
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudyGroupJdbcRepository.class)
+class StudyGroupJdbcRepositoryTest {
+
+    @Autowired
+    private StudyGroupJdbcRepository studyGroupJdbcRepository;
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenLoadedStudyGroup_whenUpdateAfterLikeFlush_thenKeepLikeCount() {
+        // given
+        Long studyGroupId = studyGroupRepository.saveAndFlush(StudyGroup.builder()
+                .title("likeSG")
+                .content("like_count 덮어쓰기 테스트")
+                .build()).getId();
+        entityManager.clear();
+        StudyGroup loaded = studyGroupRepository.findById(studyGroupId).orElseThrow();
+
+        // when (읽은 뒤 LikeCounter flush 가 반영되고, 그 다음 글 수정)
+        studyGroupJdbcRepository.addLikeCounts(Map.of(studyGroupId, 3L));
+        loaded.update("likeSG-updated", "수정");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Long likeCount = jdbcTemplate.queryForObject(
+                "select like_count from study_group where study_group_id = ?", Long.class, studyGroupId);
+        assertThat(likeCount).isEqualTo(3L);
+        assertThat(studyGroupRepository.findById(studyGroupId).orElseThrow().getTitle()).isEqualTo("likeSG-updated");
+    }
+}
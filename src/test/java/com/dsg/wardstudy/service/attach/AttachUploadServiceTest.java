@@ -0,0 +1,203 @@
+package com.dsg.wardstudy.service.attach;
+
+import com.dsg.wardstudy.domain.attach.dto.AttachUploadResult;
+import com.dsg.wardstudy.domain.attach.service.AttachUploadService;
+import com.dsg.wardstudy.domain.attach.storage.AttachStorage;
+import com.dsg.wardstudy.domain.attach.storage.LocalAttachStorage;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailCache;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailService;
+import com.dsg.wardstudy.repository.attach.AttachRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AttachUploadServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenFiles_whenUpload_thenStoreAllInRequestOrder() throws Exception {
+        // given
+        LocalAttachStorage storage = new LocalAttachStorage(uploadDir.resolve("attach").toString());
+        AttachUploadService service = new AttachUploadService(storage, thumbnailService(storage), executor, 4, 5000);
+
+        // when
+        List<AttachUploadResult> results = service.upload(List.of(
+                file("a.png", "aaa"), file("b.txt", "bbb"), file("c.jpg", "ccc")));
+
+        // then
+        assertThat(results).extracting(AttachUploadResult::getFileName).containsExactly("a.png", "b.txt", "c.jpg");
+        assertThat(results).allMatch(AttachUploadResult::isSuccess);
+        assertThat(results.get(0).getAttach().isImage()).isTrue();
+        assertThat(results.get(1).getAttach().isImage()).isFalse();
+        AttachUploadResult first = results.get(0);
+        assertThat(uploadDir.resolve("attach").resolve(first.getAttach().getUuid() + "_a.png")).hasContent("aaa");
+        try (var files = Files.list(uploadDir.resolve("attach"))) {
+            assertThat(files.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void givenFailingFile_whenUpload_thenReturnPartialResults() throws Exception {
+        // given
+        AttachStorage storage = new AttachStorage() {
+            @Override
+            public void store(String objectName, MultipartFile file) throws IOException {
+                if (objectName.endsWith("_broken.txt")) {
+                    throw new IOException("storage error");
+                }
+            }
+
+            @Override
+            public InputStream open(String objectName) throws IOException {
+                throw new FileNotFoundException(objectName);
+            }
+
+            @Override
+            public void delete(String objectName) {
+            }
+
+            @Override
+            public String getLocation() {
+                return "test-bucket";
+            }
+        };
+        AttachUploadService service = new AttachUploadService(storage, thumbnailService(storage), executor, 4, 5000);
+
+        // when
+        List<AttachUploadResult> results = service.upload(List.of(file("ok.txt", "ok"), file("broken.txt", "x")));
+
+        // then
+        assertThat(results).extracting(AttachUploadResult::getStatus)
+                .containsExactly(AttachUploadResult.Status.SUCCESS, AttachUploadResult.Status.FAILED);
+        assertThat(results.get(0).getAttach().getUploadPath()).isEqualTo("test-bucket");
+        assertThat(results.get(1).getMessage()).isEqualTo("storage error");
+    }
+
+    @Test
+    void givenConcurrencyLimit_whenUpload_thenNeverExceedLimit() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AttachStorage storage = new AttachStorage() {
+            @Override
+            public void store(String objectName, MultipartFile file) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+
+            @Override
+            public InputStream open(String objectName) throws IOException {
+                throw new FileNotFoundException(objectName);
+            }
+
+            @Override
+            public void delete(String objectName) {
+            }
+
+            @Override
+            public String getLocation() {
+                return "test-bucket";
+            }
+        };
+        AttachUploadService service = new AttachUploadService(storage, thumbnailService(storage), executor, 2, 5000);
+
+        // when
+        List<AttachUploadResult> results = service.upload(List.of(
+                file("1.txt", "1"), file("2.txt", "2"), file("3.txt", "3"), file("4.txt", "4"), file("5.txt", "5")));
+
+        // then
+        assertThat(results).allMatch(AttachUploadResult::isSuccess);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenStoreFinishedAfterTimeout_whenUpload_thenDeleteStoredObject() throws Exception {
+        // given (interrupt 를 무시하고 응답 이후에 저장이 끝나는 저장소)
+        LocalAttachStorage local = new LocalAttachStorage(uploadDir.resolve("attach").toString());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch deleted = new CountDownLatch(1);
+        AttachStorage storage = new AttachStorage() {
+            @Override
+            public void store(String objectName, MultipartFile file) throws IOException {
+                while (true) {
+                    try {
+                        release.await();
+                        break;
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                local.store(objectName, file);
+            }
+
+            @Override
+            public InputStream open(String objectName) throws IOException {
+                return local.open(objectName);
+            }
+
+            @Override
+            public void delete(String objectName) throws IOException {
+                local.delete(objectName);
+                deleted.countDown();
+            }
+
+            @Override
+            public String getLocation() {
+                return local.getLocation();
+            }
+        };
+        AttachUploadService service = new AttachUploadService(storage, thumbnailService(storage), executor, 4, 100);
+
+        // when
+        List<AttachUploadResult> results = service.upload(List.of(file("slow.txt", "slow")));
+        release.countDown();
+
+        // then (TIMEOUT 으로 응답한 파일은 남지 않음)
+        assertThat(results).extracting(AttachUploadResult::getStatus).containsExactly(AttachUploadResult.Status.TIMEOUT);
+        assertThat(deleted.await(5, TimeUnit.SECONDS)).isTrue();
+        try (var files = Files.list(uploadDir.resolve("attach"))) {
+            assertThat(files.count()).isZero();
+        }
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "application/octet-stream", content.getBytes());
+    }
+
+    private ThumbnailService thumbnailService(AttachStorage storage) throws IOException {
+        return new ThumbnailService(storage, mock(AttachRepository.class),
+                new ThumbnailCache(uploadDir.resolve("thumbnail").toString(), 1024 * 1024),
+                Executors.newSingleThreadExecutor(), List.of(160));
+    }
+}
@@ -0,0 +1,181 @@
+package com.dsg.wardstudy.service.attach;
+
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.domain.attach.entity.Attach;
+import com.dsg.wardstudy.domain.attach.storage.LocalAttachStorage;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailCache;
+import com.dsg.wardstudy.domain.attach.thumbnail.ThumbnailService;
+import com.dsg.wardstudy.repository.attach.AttachRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private AttachRepository attachRepository;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private LocalAttachStorage storage;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalAttachStorage(tempDir.resolve("attach").toString());
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("thumbnail").toString(), 1024 * 1024);
+        thumbnailService = new ThumbnailService(storage, attachRepository, cache, executor, List.of(160, 480));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenUploadedImage_whenGenerateAsync_thenThumbnailsCached() throws Exception {
+        // given
+        String uuid = UUID.randomUUID().toString();
+
+        // when
+        thumbnailService.generateAsync(uuid, image("a.png", 1200, 600));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        BufferedImage small = read(uuid, 160);
+        BufferedImage large = read(uuid, 480);
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isEqualTo(80);
+        assertThat(large.getWidth()).isEqualTo(480);
+        assertThat(large.getHeight()).isEqualTo(240);
+        verify(attachRepository, never()).findByUuid(uuid);
+    }
+
+    @Test
+    void givenCacheMiss_whenGetThumbnail_thenRegenerateFromStorage() throws Exception {
+        // given
+        String uuid = UUID.randomUUID().toString();
+        storage.store(uuid + "_b.png", image("b.png", 100, 300));
+        given(attachRepository.findByUuid(uuid)).willReturn(Optional.of(Attach.builder()
+                .uuid(uuid)
+                .fileName("b.png")
+                .image(true)
+                .build()));
+
+        // when
+        BufferedImage thumbnail = read(uuid, 160);
+
+        // then (원본보다 크게 늘리지 않음)
+        assertThat(thumbnail.getWidth()).isEqualTo(53);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        assertThat(read(uuid, 480).getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    void givenInvalidRequest_whenGetThumbnail_thenThrow() {
+        assertThatThrownBy(() -> thumbnailService.openThumbnail(UUID.randomUUID().toString(), 100))
+                .isInstanceOf(WSApiException.class);
+        assertThatThrownBy(() -> thumbnailService.openThumbnail("../etc", 160))
+                .isInstanceOf(WSApiException.class);
+    }
+
+    @Test
+    void givenMaxBytes_whenPut_thenEvictLeastRecentlyUsed() throws IOException {
+        // given
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("lru").toString(), 250);
+        cache.put("a", new byte[100]);
+        cache.put("b", new byte[100]);
+        assertThat(contains(cache, "a")).isTrue();
+
+        // when
+        cache.put("c", new byte[100]);
+
+        // then
+        assertThat(contains(cache, "a")).isTrue();
+        assertThat(contains(cache, "b")).isFalse();
+        assertThat(contains(cache, "c")).isTrue();
+        assertThat(cache.getTotalBytes()).isEqualTo(200);
+    }
+
+    @Test
+    void givenOpenedEntry_whenEvicted_thenStillReadable() throws IOException {
+        // given
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("race").toString(), 150);
+        byte[] data = new byte[100];
+        Arrays.fill(data, (byte) 7);
+        cache.put("a", data);
+
+        try (InputStream in = cache.open("a").orElseThrow()) {
+            // when (읽는 도중 evict 로 파일 삭제)
+            cache.put("b", new byte[100]);
+            assertThat(contains(cache, "a")).isFalse();
+
+            // then
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void givenGenerateAsync_whenShutdown_thenRemoveTmpDir() throws Exception {
+        // given
+        Path tmpDir = (Path) ReflectionTestUtils.getField(thumbnailService, "tmpDir");
+        thumbnailService.generateAsync(UUID.randomUUID().toString(), image("c.png", 300, 300));
+
+        // when
+        thumbnailService.shutdown();
+
+        // then
+        assertThat(executor.isTerminated()).isTrue();
+        assertThat(tmpDir).doesNotExist();
+    }
+
+    private BufferedImage read(String uuid, int size) throws IOException {
+        try (InputStream in = thumbnailService.openThumbnail(uuid, size)) {
+            return ImageIO.read(in);
+        }
+    }
+
+    private boolean contains(ThumbnailCache cache, String key) throws IOException {
+        Optional<InputStream> in = cache.open(key);
+        if (in.isPresent()) {
+            in.get().close();
+        }
+        return in.isPresent();
+    }
+
+    private MockMultipartFile image(String name, int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("file", name, "image/png", out.toByteArray());
+    }
+}
@@ -0,0 +1,62 @@
+package com.dsg.wardstudy.service.file;
+
+import com.dsg.wardstudy.domain.file.codec.FileCodec;
+import com.dsg.wardstudy.domain.file.codec.FileCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileCodecsTest {
+
+    private final FileCodecs fileCodecs = new FileCodecs(FileCodec.DEFLATE, 65536, 0.9);
+
+    @Test
+    void givenText_whenChoose_thenCompress() {
+        byte[] text = "ward-study 스터디 예약 안내\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(fileCodecs.choose("text/plain", text, text.length)).isEqualTo(FileCodec.DEFLATE);
+    }
+
+    @Test
+    void givenCompressedTypeOrRandomBytes_whenChoose_thenSkipCompression() {
+        byte[] text = "aaaa".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        byte[] random = new byte[10_000];
+        new Random(1).nextBytes(random);
+
+        assertThat(fileCodecs.choose("image/png", text, text.length)).isEqualTo(FileCodec.NONE);
+        assertThat(fileCodecs.choose("video/mp4", text, text.length)).isEqualTo(FileCodec.NONE);
+        // 타입은 압축 가능하지만 샘플 압축률이 나쁨
+        assertThat(fileCodecs.choose("application/octet-stream", random, random.length)).isEqualTo(FileCodec.NONE);
+    }
+
+    @Test
+    void givenEachCodec_whenEncodeAndDecode_thenRoundTrip() throws Exception {
+        byte[] original = "압축 테스트 ".repeat(50_000).getBytes(StandardCharsets.UTF_8);
+
+        for (FileCodec codec : FileCodec.values()) {
+            // pool 에서 돌려받은 Deflater/Inflater 를 다시 써도 결과가 같아야 함
+            for (int i = 0; i < 3; i++) {
+                ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+                try (OutputStream out = fileCodecs.encode(codec, encoded)) {
+                    out.write(original);
+                }
+                if (codec != FileCodec.NONE) {
+                    assertThat(encoded.size()).isLessThan(original.length);
+                }
+
+                ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+                try (InputStream in = fileCodecs.decode(codec, new ByteArrayInputStream(encoded.toByteArray()))) {
+                    in.transferTo(decoded);
+                }
+                assertThat(decoded.toByteArray()).isEqualTo(original);
+            }
+        }
+    }
+}
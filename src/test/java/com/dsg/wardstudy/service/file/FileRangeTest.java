@@ -0,0 +1,38 @@
+package com.dsg.wardstudy.service.file;
+
+import com.dsg.wardstudy.domain.file.FileRange;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileRangeTest {
+
+    @Test
+    void givenSingleRange_whenParse_thenResolveWithinSize() {
+        FileRange range = FileRange.parse("bytes=100-199", 1000);
+        assertThat(range.isSatisfiable()).isTrue();
+        assertThat(range.getStart()).isEqualTo(100);
+        assertThat(range.getLength()).isEqualTo(100);
+        assertThat(range.toContentRange(1000)).isEqualTo("bytes 100-199/1000");
+
+        // 끝이 없거나 크기를 넘으면 파일 끝까지
+        assertThat(FileRange.parse("bytes=900-", 1000).toContentRange(1000)).isEqualTo("bytes 900-999/1000");
+        assertThat(FileRange.parse("bytes=900-5000", 1000).getLength()).isEqualTo(100);
+        // 뒤에서부터 n 바이트
+        assertThat(FileRange.parse("bytes=-10", 1000).toContentRange(1000)).isEqualTo("bytes 990-999/1000");
+    }
+
+    @Test
+    void givenStartBeyondSize_whenParse_thenUnsatisfiable() {
+        FileRange range = FileRange.parse("bytes=1000-", 1000);
+        assertThat(range.isSatisfiable()).isFalse();
+        assertThat(range.toContentRange(1000)).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    void givenNoOrInvalidOrMultiRange_whenParse_thenServeWholeFile() {
+        assertThat(FileRange.parse(null, 1000)).isNull();
+        assertThat(FileRange.parse("items=0-1", 1000)).isNull();
+        assertThat(FileRange.parse("bytes=0-1,5-6", 1000)).isNull();
+    }
+}
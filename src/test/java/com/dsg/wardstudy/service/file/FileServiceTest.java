@@ -0,0 +1,177 @@
+package com.dsg.wardstudy.service.file;
+
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.common.utils.FileUtils;
+import com.dsg.wardstudy.domain.file.FileBlobStore;
+import com.dsg.wardstudy.domain.file.FileContent;
+import com.dsg.wardstudy.domain.file.FileData;
+import com.dsg.wardstudy.domain.file.FileMetadata;
+import com.dsg.wardstudy.domain.file.FileRepository;
+import com.dsg.wardstudy.domain.file.FileResponse;
+import com.dsg.wardstudy.domain.file.FileService;
+import com.dsg.wardstudy.domain.file.codec.FileCodec;
+import com.dsg.wardstudy.domain.file.codec.FileCodecs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.sql.rowset.serial.SerialBlob;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+
+    @Mock
+    private FileRepository storageRepository;
+
+    private FileBlobStore blobStore;
+    private FileService fileService;
+
+    @TempDir
+    Path uploadDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = new FileBlobStore(uploadDir.toString());
+        fileService = new FileService(storageRepository, blobStore, new FileCodecs(FileCodec.DEFLATE, 65536, 0.9));
+    }
+
+    @Test
+    void givenMultipartFile_whenUploadAndDownload_thenStreamSameBytes() throws Exception {
+        // given
+        byte[] bytes = bytes(100_000);
+        MockMultipartFile file = new MockMultipartFile("file", "../../cat.png", "image/png", bytes);
+        given(storageRepository.save(any(FileData.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        FileResponse response = fileService.uploadImageToFileSystem(file);
+
+        // then
+        Path stored = Path.of(response.getDownloadUri());
+        assertThat(stored).isEqualTo(blobStore.pathOf(response.getContentHash()));
+        assertThat(stored.startsWith(uploadDir.toAbsolutePath().normalize())).isTrue();
+        assertThat(response.getContentHash()).hasSize(64);
+        assertThat(response.getFileName()).endsWith("-cat.png");
+        assertThat(response.getSize()).isEqualTo(bytes.length);
+
+        // 다운로드
+        FileMetadata metadata = new FileMetadata(1L, response.getFileName(), "image/png", bytes.length,
+                stored.toString(), response.getContentHash(), null);
+        given(storageRepository.findMetadataByName(response.getFileName())).willReturn(Optional.of(metadata));
+
+        FileContent content = fileService.downloadImageFromFileSystem(response.getFileName());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileUtils.transferTo(content.getPath(), 0, content.getSize(), out);
+
+        assertThat(content.getType()).isEqualTo("image/png");
+        assertThat(content.getSize()).isEqualTo(bytes.length);
+        assertThat(content.getETag()).isEqualTo("\"" + response.getContentHash() + "\"");
+        assertThat(content.getLastModified()).isPositive();
+        assertThat(out.toByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    void givenSameContent_whenUploadTwice_thenStoreOnce() throws Exception {
+        // given
+        byte[] bytes = bytes(10_000);
+        given(storageRepository.save(any(FileData.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        FileResponse first = fileService.uploadImageToFileSystem(new MockMultipartFile("file", "a.pdf", "application/pdf", bytes));
+        FileResponse second = fileService.uploadImageToFileSystem(new MockMultipartFile("file", "b.pdf", "application/pdf", bytes));
+
+        // then
+        assertThat(first.getFileName()).isNotEqualTo(second.getFileName());
+        assertThat(first.getContentHash()).isEqualTo(second.getContentHash());
+        assertThat(first.getDownloadUri()).isEqualTo(second.getDownloadUri());
+        try (var files = Files.walk(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void givenSharedContent_whenDelete_thenRemoveBlobWithLastReference() throws Exception {
+        // given
+        given(storageRepository.save(any(FileData.class))).willAnswer(invocation -> invocation.getArgument(0));
+        FileResponse response = fileService.uploadImageToFileSystem(
+                new MockMultipartFile("file", "a.pdf", "application/pdf", bytes(1_000)));
+        FileMetadata metadata = new FileMetadata(1L, response.getFileName(), "application/pdf", 1_000,
+                response.getDownloadUri(), response.getContentHash(), null);
+        given(storageRepository.findMetadataByName(response.getFileName())).willReturn(Optional.of(metadata));
+        Path blob = blobStore.pathOf(response.getContentHash());
+
+        // 다른 참조가 남아 있으면 유지
+        given(storageRepository.countByContentHash(response.getContentHash())).willReturn(1L);
+        fileService.deleteFromFileSystem(response.getFileName());
+        assertThat(blob).exists();
+
+        // 마지막 참조면 삭제
+        given(storageRepository.countByContentHash(response.getContentHash())).willReturn(0L);
+        fileService.deleteFromFileSystem(response.getFileName());
+        assertThat(blob).doesNotExist();
+        verify(storageRepository, times(2)).deleteMetadataById(1L);
+    }
+
+    @Test
+    void givenDbStoredFile_whenUploadAndDownload_thenMetadataAndContentReadSeparately() throws Exception {
+        // given
+        byte[] text = "ward-study 스터디 자료\n".repeat(2_000).getBytes(StandardCharsets.UTF_8);
+        ArgumentCaptor<FileData> saved = ArgumentCaptor.forClass(FileData.class);
+        AtomicReference<byte[]> storedContent = new AtomicReference<>();
+        given(storageRepository.saveAndFlush(saved.capture())).willAnswer(invocation -> {
+            // BLOB 내용은 insert 시점에 읽힘
+            FileData fileData = invocation.getArgument(0);
+            storedContent.set(fileData.getImageData().getBinaryStream().readAllBytes());
+            return fileData;
+        });
+
+        // when
+        FileResponse response = fileService.upload(new MockMultipartFile("file", "note.txt", "text/plain", text));
+        given(storageRepository.findMetadataByName("note.txt")).willReturn(Optional.of(
+                new FileMetadata(1L, "note.txt", "text/plain", text.length, null, null, saved.getValue().getCodec())));
+        given(storageRepository.findContentById(1L)).willReturn(Optional.of(new SerialBlob(storedContent.get())));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        fileService.downloadImage("note.txt", out);
+
+        // then
+        assertThat(response.getSize()).isEqualTo(text.length);
+        assertThat(saved.getValue().getCodec()).isEqualTo(FileCodec.DEFLATE);
+        assertThat(storedContent.get().length).isLessThan(text.length);
+        assertThat(out.toByteArray()).isEqualTo(text);
+    }
+
+    @Test
+    void givenMissingFile_whenDownload_thenThrow() {
+        FileMetadata metadata = new FileMetadata(1L, "abc-cat.png", "image/png", 0,
+                uploadDir.resolve("abc-cat.png").toString(), null, null);
+        given(storageRepository.findMetadataByName("abc-cat.png")).willReturn(Optional.of(metadata));
+
+        assertThatThrownBy(() -> fileService.downloadImageFromFileSystem("abc-cat.png"))
+                .isInstanceOf(WSApiException.class);
+    }
+
+    private byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
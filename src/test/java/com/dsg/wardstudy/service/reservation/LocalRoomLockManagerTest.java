@@ -0,0 +1,57 @@
+package com.dsg.wardstudy.service.reservation;
+
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.common.lock.LocalRoomLockManager;
+import com.dsg.wardstudy.common.lock.RoomLockManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalRoomLockManagerTest {
+
+    private final LocalRoomLockManager roomLockManager = new LocalRoomLockManager(64, 100L);
+
+    @Test
+    void givenLockedRoom_whenLockSameRoomFromOtherThread_thenThrowLockTimeout() throws Exception {
+        RoomLockManager.RoomLock roomLock = roomLockManager.lock(1L);
+        try {
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> roomLockManager.lock(1L));
+
+            assertThatThrownBy(() -> other.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(WSApiException.class);
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    @Test
+    void givenLockedRoom_whenLockOtherRoom_thenAcquired() throws Exception {
+        RoomLockManager.RoomLock roomLock = roomLockManager.lock(1L);
+        try {
+            Boolean acquired = CompletableFuture.supplyAsync(() -> {
+                roomLockManager.lock(2L).unlock();
+                return true;
+            }).get(1, TimeUnit.SECONDS);
+
+            assertThat(acquired).isTrue();
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    @Test
+    void givenUnlockedRoom_whenLockFromOtherThread_thenAcquired() throws Exception {
+        roomLockManager.lock(1L).unlock();
+
+        Boolean acquired = CompletableFuture.supplyAsync(() -> {
+            roomLockManager.lock(1L).unlock();
+            return true;
+        }).get(1, TimeUnit.SECONDS);
+
+        assertThat(acquired).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.dsg.wardstudy.service.reservation;
+
+import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.common.lock.LocalRoomLockManager;
+import com.dsg.wardstudy.common.lock.RedisRoomLockManager;
+import com.dsg.wardstudy.common.lock.RoomLockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRoomLockManagerTest {
+
+    private static final String KEY = "lock:room:1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisRoomLockManager roomLockManager;
+
+    @BeforeEach
+    void setUp() {
+        roomLockManager = new RedisRoomLockManager(redisTemplate, new LocalRoomLockManager(64, 100L),
+                Duration.ofMillis(300), 100L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), any(), eq(Duration.ofMillis(300)))).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomLockManager.close();
+    }
+
+    @Test
+    void givenHeldLock_whenLeaseRenewed_thenVerifyPasses() {
+        // given
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+        RoomLockManager.RoomLock roomLock = roomLockManager.lock(1L);
+        String owner = ownerOf();
+        given(valueOperations.get(KEY)).willReturn(owner);
+
+        // when - lease(300ms) 의 1/3 주기로 연장
+        verify(redisTemplate, timeout(1000).atLeast(2)).execute(any(RedisScript.class), anyList(), any(), any());
+
+        // then
+        roomLock.verify();
+        roomLock.unlock();
+    }
+
+    @Test
+    void givenLeaseTakenByOther_whenRenew_thenVerifyThrows() {
+        // given - 연장 스크립트가 0 (다른 owner 가 가져감)
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        RoomLockManager.RoomLock roomLock = roomLockManager.lock(1L);
+
+        // when
+        verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), anyList(), any(), any());
+
+        // then
+        assertThatThrownBy(roomLock::verify).isInstanceOf(WSApiException.class);
+        roomLock.unlock();
+    }
+
+    @Test
+    void givenExpiredLease_whenVerify_thenThrows() {
+        // given - 연장 전에 키가 사라짐
+        RoomLockManager.RoomLock roomLock = roomLockManager.lock(1L);
+        given(valueOperations.get(KEY)).willReturn(null);
+
+        // when, then
+        assertThatThrownBy(roomLock::verify).isInstanceOf(WSApiException.class);
+        roomLock.unlock();
+    }
+
+    private String ownerOf() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, atLeast(1)).setIfAbsent(eq(KEY), owner.capture(), eq(Duration.ofMillis(300)));
+        return owner.getValue();
+    }
+}
@@ -0,0 +1,179 @@
+package com.dsg.wardstudy.service.reservation;
+
+import com.dsg.wardstudy.common.adapter.mail.MailMessageGenerator;
+import com.dsg.wardstudy.common.adapter.mail.MailSendService;
+import com.dsg.wardstudy.domain.reservation.dto.ReservationOutboxMessage;
+import com.dsg.wardstudy.domain.reservation.entity.Room;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.reservation.outbox.ReservationNotificationConsumer;
+import com.dsg.wardstudy.domain.reservation.service.ReservationService;
+import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.dsg.wardstudy.domain.user.entity.User;
+import com.dsg.wardstudy.repository.reservation.ReservationNotificationJdbcRepository;
+import com.dsg.wardstudy.repository.reservation.RoomRepository;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import com.dsg.wardstudy.repository.user.UserGroupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationNotificationConsumerTest {
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+    @Mock
+    private StudyGroupRepository studyGroupRepository;
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private ReservationService reservationService;
+    @Mock
+    private ReservationNotificationJdbcRepository reservationNotificationJdbcRepository;
+    @Mock
+    private MailSendService mailSendService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ReservationNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ReservationNotificationConsumer(userGroupRepository, studyGroupRepository, roomRepository,
+                reservationService, reservationNotificationJdbcRepository, mailSendService,
+                new MailMessageGenerator(), objectMapper);
+        given(studyGroupRepository.findById(1L)).willReturn(Optional.of(StudyGroup.builder().id(1L).title("JPA 스터디").build()));
+        given(roomRepository.findById(3L)).willReturn(Optional.of(Room.builder().id(3L).name("A룸").build()));
+        given(userGroupRepository.findUserBySGId(1L)).willReturn(List.of(member(1L), member(2L)));
+    }
+
+    @Test
+    void givenBulkMessage_whenConsume_thenSendOneMailPerMemberAndFlagAll() throws Exception {
+        // given
+        given(reservationNotificationJdbcRepository.findNotifiedUserIds(100L)).willReturn(Set.of());
+        given(mailSendService.sendMailAsync(anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        consumer.consume(payload(null, List.of(10L, 11L, 12L)));
+
+        // then (예약 3건이어도 멤버당 메일 1통)
+        ArgumentCaptor<String> html = ArgumentCaptor.forClass(String.class);
+        verify(mailSendService, times(2)).sendMailAsync(anyString(), anyString(), html.capture());
+        assertThat(html.getAllValues()).allMatch(h -> h.contains("예약 3건이 등록되었습니다"));
+        verify(reservationNotificationJdbcRepository).insertDeliveries(100L, List.of(1L, 2L));
+        verify(reservationService).changeIsEmailSent(List.of(10L, 11L, 12L));
+    }
+
+    @Test
+    void givenRedeliveredMessage_whenConsume_thenSkipNotifiedMembers() throws Exception {
+        // given (user1 에게는 이전 전달 때 이미 발송)
+        given(reservationNotificationJdbcRepository.findNotifiedUserIds(100L)).willReturn(Set.of(1L));
+        given(mailSendService.sendMailAsync(eq("user2@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        consumer.consume(payload(10L, List.of()));
+
+        // then
+        verify(mailSendService, never()).sendMailAsync(eq("user1@gmail.com"), anyString(), anyString());
+        verify(reservationNotificationJdbcRepository).insertDeliveries(100L, List.of(2L));
+        verify(reservationService).changeIsEmailSent(List.of(10L));
+    }
+
+    @Test
+    void givenNullReservationId_whenConsume_thenSendWithoutFlag() throws Exception {
+        // given
+        given(reservationNotificationJdbcRepository.findNotifiedUserIds(100L)).willReturn(Set.of());
+        given(mailSendService.sendMailAsync(anyString(), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        consumer.consume(payload(null, List.of()));
+
+        // then (id 를 모르는 예약은 알림 배치가 처리)
+        verify(reservationNotificationJdbcRepository).insertDeliveries(100L, List.of(1L, 2L));
+        verify(reservationService, never()).changeIsEmailSent(anyCollection());
+    }
+
+    @Test
+    void givenPartialMailFailure_whenConsume_thenRecordSentMembersAndThrowForRedelivery() {
+        // given
+        given(reservationNotificationJdbcRepository.findNotifiedUserIds(100L)).willReturn(Set.of());
+        given(mailSendService.sendMailAsync(eq("user1@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+        given(mailSendService.sendMailAsync(eq("user2@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(false));
+
+        // when (offset 을 커밋하지 않도록 예외)
+        assertThatThrownBy(() -> consumer.consume(payload(10L, List.of())))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        verify(reservationNotificationJdbcRepository).insertDeliveries(100L, List.of(1L));
+        verify(reservationService, never()).changeIsEmailSent(anyCollection());
+    }
+
+    @Test
+    void givenPartialMailFailure_whenRedelivered_thenSendOnlyToFailedMember() throws Exception {
+        // given (첫 전달: user2 실패 / 재전달: user1 은 발송 기록이 있음)
+        given(reservationNotificationJdbcRepository.findNotifiedUserIds(100L)).willReturn(Set.of(), Set.of(1L));
+        given(mailSendService.sendMailAsync(eq("user1@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
+        given(mailSendService.sendMailAsync(eq("user2@gmail.com"), anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(false), CompletableFuture.completedFuture(true));
+        String payload = payload(10L, List.of());
+        assertThatThrownBy(() -> consumer.consume(payload)).isInstanceOf(IllegalStateException.class);
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        verify(mailSendService, times(1)).sendMailAsync(eq("user1@gmail.com"), anyString(), anyString());
+        verify(mailSendService, times(2)).sendMailAsync(eq("user2@gmail.com"), anyString(), anyString());
+        verify(reservationNotificationJdbcRepository).insertDeliveries(100L, List.of(2L));
+        verify(reservationService).changeIsEmailSent(List.of(10L));
+    }
+
+    private String payload(Long reservationId, List<Long> reservationIds) throws Exception {
+        return objectMapper.writeValueAsString(ReservationOutboxMessage.builder()
+                .outboxId(100L)
+                .eventType(ReservationChangedEvent.Type.REGISTERED)
+                .reservationId(reservationId)
+                .reservationIds(reservationIds)
+                .reservationToken("3||2022-11-03 06:30:00")
+                .roomId(3L)
+                .studyGroupId(1L)
+                .startTime(LocalDateTime.of(2022, 11, 3, 6, 30))
+                .endTime(LocalDateTime.of(2022, 11, 5, 7, 30))
+                .build());
+    }
+
+    private User member(Long id) {
+        return User.builder()
+                .id(id)
+                .name("user" + id)
+                .email("user" + id + "@gmail.com")
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.dsg.wardstudy.service.reservation;
+
+import com.dsg.wardstudy.domain.reservation.dto.ReservationOutboxMessage;
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.reservation.outbox.ReservationOutboxRecorder;
+import com.dsg.wardstudy.repository.reservation.ReservationOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationOutboxRecorderTest {
+
+    @Mock
+    private ReservationOutboxRepository reservationOutboxRepository;
+
+    @InjectMocks
+    private ReservationOutboxRecorder recorder;
+
+    @Test
+    void givenChangedEvent_whenRecord_thenSaveSingleOutbox() {
+        // when
+        recorder.onReservationChanged(event(10L, "3||2022-11-03 06:00:00", LocalDateTime.of(2022, 11, 3, 6, 0)));
+
+        // then
+        ArgumentCaptor<ReservationOutbox> captor = ArgumentCaptor.forClass(ReservationOutbox.class);
+        verify(reservationOutboxRepository).save(captor.capture());
+        ReservationOutbox outbox = captor.getValue();
+        assertThat(outbox.isBulk()).isFalse();
+        assertThat(outbox.getReservationId()).isEqualTo(10L);
+        assertThat(ReservationOutboxMessage.of(outbox).getReservationIds()).isEmpty();
+    }
+
+    @Test
+    void givenBulkEvent_whenRecord_thenSaveOneOutboxWithAllIds() {
+        // given (id 를 못 찾은 예약(null)은 제외)
+        ReservationBulkRegisteredEvent event = new ReservationBulkRegisteredEvent(3L, 1L, List.of(
+                event(10L, "3||2022-11-03 06:00:00", LocalDateTime.of(2022, 11, 3, 6, 0)),
+                event(null, "3||2022-11-04 06:00:00", LocalDateTime.of(2022, 11, 4, 6, 0)),
+                event(12L, "3||2022-11-05 08:00:00", LocalDateTime.of(2022, 11, 5, 8, 0))));
+
+        // when
+        recorder.onReservationBulkRegistered(event);
+
+        // then
+        ArgumentCaptor<ReservationOutbox> captor = ArgumentCaptor.forClass(ReservationOutbox.class);
+        verify(reservationOutboxRepository).save(captor.capture());
+        ReservationOutbox outbox = captor.getValue();
+        assertThat(outbox.isBulk()).isTrue();
+        assertThat(outbox.getEventType()).isEqualTo(ReservationChangedEvent.Type.REGISTERED);
+        assertThat(outbox.getReservationToken()).isEqualTo("3||2022-11-03 06:00:00");
+        assertThat(outbox.getStartTime()).isEqualTo(LocalDateTime.of(2022, 11, 3, 6, 0));
+        assertThat(outbox.getEndTime()).isEqualTo(LocalDateTime.of(2022, 11, 5, 9, 0));
+        assertThat(ReservationOutboxMessage.of(outbox).getReservationIds()).containsExactly(10L, 12L);
+    }
+
+    @Test
+    void givenEmptyBulkEvent_whenRecord_thenSkip() {
+        recorder.onReservationBulkRegistered(new ReservationBulkRegisteredEvent(3L, 1L, List.of()));
+
+        verify(reservationOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void givenListeners_thenRecordBeforeCommit() throws NoSuchMethodException {
+        // 예약 변경과 같은 트랜잭션에서 기록해야 롤백/커밋이 함께 반영됨
+        assertThat(ReservationOutboxRecorder.class
+                .getMethod("onReservationChanged", ReservationChangedEvent.class)
+                .getAnnotation(TransactionalEventListener.class).phase())
+                .isEqualTo(TransactionPhase.BEFORE_COMMIT);
+        assertThat(ReservationOutboxRecorder.class
+                .getMethod("onReservationBulkRegistered", ReservationBulkRegisteredEvent.class)
+                .getAnnotation(TransactionalEventListener.class).phase())
+                .isEqualTo(TransactionPhase.BEFORE_COMMIT);
+    }
+
+    private ReservationChangedEvent event(Long reservationId, String token, LocalDateTime start) {
+        return ReservationChangedEvent.builder()
+                .type(ReservationChangedEvent.Type.REGISTERED)
+                .reservationId(reservationId)
+                .reservationToken(token)
+                .roomId(3L)
+                .studyGroupId(1L)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .build();
+    }
+}
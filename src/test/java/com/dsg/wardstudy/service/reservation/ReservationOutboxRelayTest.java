@@ -0,0 +1,124 @@
+package com.dsg.wardstudy.service.reservation;
+
+import com.dsg.wardstudy.domain.reservation.entity.ReservationOutbox;
+import com.dsg.wardstudy.domain.reservation.event.ReservationChangedEvent;
+import com.dsg.wardstudy.domain.reservation.outbox.ReservationOutboxRelay;
+import com.dsg.wardstudy.repository.reservation.ReservationNotificationJdbcRepository;
+import com.dsg.wardstudy.repository.reservation.ReservationOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@EmbeddedKafka(partitions = 1, topics = ReservationOutboxRelayTest.TOPIC)
+@ExtendWith(MockitoExtension.class)
+class ReservationOutboxRelayTest {
+
+    static final String TOPIC = "reservation-notification";
+
+    @Mock
+    private ReservationOutboxRepository reservationOutboxRepository;
+    @Mock
+    private ReservationNotificationJdbcRepository reservationNotificationJdbcRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private Consumer<String, String> consumer;
+    private ReservationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put("acks", "all");
+        kafkaTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer()));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-test", "false", broker);
+        consumerProps.put("auto.offset.reset", "earliest");
+        consumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        relay = new ReservationOutboxRelay(reservationOutboxRepository, reservationNotificationJdbcRepository,
+                kafkaTemplate, objectMapper, transactionManager, TOPIC, 10, 5000L, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        kafkaTemplate.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenUnpublishedOutbox_whenRelay_thenPublishAndMarkPublished() {
+        // given
+        List<ReservationOutbox> outboxes = List.of(
+                outbox(1L, ReservationChangedEvent.Type.REGISTERED, "3||2022-11-03 06:30:00"),
+                outbox(2L, ReservationChangedEvent.Type.DELETED, "3||2022-11-03 08:00:00"));
+        given(reservationOutboxRepository.findUnpublishedForUpdate(10)).willReturn(outboxes, List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        while (records.size() < 2) {
+            ConsumerRecords<String, String> polled = KafkaTestUtils.getRecords(consumer);
+            polled.forEach(records::add);
+        }
+        assertThat(records).extracting(ConsumerRecord::key)
+                .containsExactly("3||2022-11-03 06:30:00", "3||2022-11-03 08:00:00");
+        assertThat(records.get(0).value()).contains("\"eventType\":\"REGISTERED\"", "\"reservationId\":1");
+        assertThat(records.get(1).value()).contains("\"eventType\":\"DELETED\"");
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(reservationOutboxRepository).markPublished(ids.capture(), any(LocalDateTime.class));
+        assertThat(ids.getValue()).containsExactly(1L, 2L);
+    }
+
+    private ReservationOutbox outbox(Long id, ReservationChangedEvent.Type type, String token) {
+        ReservationOutbox outbox = ReservationOutbox.builder()
+                .eventType(type)
+                .reservationId(id)
+                .reservationToken(token)
+                .roomId(3L)
+                .studyGroupId(1L)
+                .startTime(LocalDateTime.of(2022, 11, 3, 6, 30))
+                .endTime(LocalDateTime.of(2022, 11, 3, 7, 30))
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -1,15 +1,22 @@
 package com.dsg.wardstudy.service.reservation;
 
+import com.dsg.wardstudy.common.lock.RoomLockManager;
 import com.dsg.wardstudy.common.utils.TimeParsingUtils;
+import com.dsg.wardstudy.domain.reservation.cache.ReservationDayBucketCache;
 import com.dsg.wardstudy.domain.reservation.entity.Reservation;
 import com.dsg.wardstudy.domain.reservation.entity.Room;
+import com.dsg.wardstudy.domain.reservation.event.ReservationBulkRegisteredEvent;
 import com.dsg.wardstudy.domain.reservation.service.ReservationServiceImpl;
 import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.dsg.wardstudy.domain.user.entity.User;
 import com.dsg.wardstudy.domain.user.entity.UserGroup;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationCommand;
 import com.dsg.wardstudy.domain.reservation.dto.ReservationDetails;
+import com.dsg.wardstudy.domain.reservation.dto.RoomFreeSlot;
+import com.dsg.wardstudy.common.exception.ErrorCode;
 import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.repository.reservation.ReservationJdbcRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationRepository;
 import com.dsg.wardstudy.repository.reservation.RoomRepository;
 import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
@@ -20,20 +27,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
@@ -45,6 +61,8 @@ class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
     @Mock
+    private ReservationJdbcRepository reservationJdbcRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private UserGroupRepository userGroupRepository;
@@ -52,6 +70,14 @@ class ReservationServiceTest {
     private StudyGroupRepository studyGroupRepository;
     @Mock
     private RoomRepository roomRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private RoomLockManager roomLockManager;
+    @Mock
+    private TransactionOperations transactionOperations;
+    @Mock
+    private ReservationDayBucketCache reservationDayBucketCache;
 
 
     @InjectMocks
@@ -68,6 +94,9 @@ class ReservationServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 락/트랜잭션 없이 바로 실행
+        lenient().when(roomLockManager.executeInTransaction(anyLong(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
 
         user = User.builder()
                 .id(1L)
@@ -113,16 +142,9 @@ class ReservationServiceTest {
                 .endTime(eTime)
                 .build();
 
-        // validate
-        given(userGroupRepository.findUserTypeByUserIdAndSGId(createRequest.getUserId(), studyGroup.getId()))
-                .willReturn(Optional.of(userGroup.getUserType()));
-
-        // create 로직
-        given(userRepository.findById(createRequest.getUserId())).willReturn(Optional.of(user));
-
-        given(studyGroupRepository.findById(studyGroup.getId())).willReturn(Optional.of(studyGroup));
-
-        given(roomRepository.findById(room.getId())).willReturn(Optional.of(room));
+        // validate (user, studyGroup, room, userType 한 번에 조회)
+        given(userGroupRepository.findMembershipContext(createRequest.getUserId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
 
         given(reservationRepository.save(any(Reservation.class)))
                 .willReturn(reservation);
@@ -137,6 +159,91 @@ class ReservationServiceTest {
         assertThat(details.getEndTime()).isEqualTo(TimeParsingUtils.formatterString(reservation.getEndTime()));
     }
 
+    @Test
+    void givenRecurrence_whenRegisterBulk_thenBatchInsertAllSlots() {
+        // given - precondition or setup
+        ReservationCommand.BulkRegisterReservation bulkRequest = ReservationCommand.BulkRegisterReservation.builder()
+                .userId(user.getId())
+                .recurrence(ReservationCommand.Recurrence.builder()
+                        .startTime("2022-11-03 06:30:00")
+                        .endTime("2022-11-03 08:30:00")
+                        .intervalWeeks(1)
+                        .count(16)
+                        .build())
+                .build();
+
+        given(userGroupRepository.findMembershipContext(user.getId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
+        given(studyGroupRepository.getById(studyGroup.getId())).willReturn(studyGroup);
+        given(roomRepository.getById(room.getId())).willReturn(room);
+        given(reservationRepository.findSlotsByRoomIdAndPeriod(anyLong(), any(), any()))
+                .willReturn(List.of());
+        given(reservationJdbcRepository.findIdsByTokens(anyList())).willAnswer(invocation -> {
+            List<String> tokens = invocation.getArgument(0);
+            Map<String, Long> ids = new HashMap<>();
+            tokens.forEach(token -> ids.put(token, (long) ids.size() + 1));
+            return ids;
+        });
+
+        // when - action or the behaviour that we are going test
+        List<ReservationDetails> details = reservationService.registerBulk(studyGroup.getId(), room.getId(), bulkRequest);
+
+        // then - verify the output
+        assertThat(details).hasSize(16);
+        assertThat(details.get(15).getStartTime()).isEqualTo("2023-02-16 06:30:00");
+        verify(reservationJdbcRepository, times(1)).batchInsert(anyList());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        // 예약별 이벤트 대신 생성된 id 를 담은 한 건
+        ArgumentCaptor<ReservationBulkRegisteredEvent> event = ArgumentCaptor.forClass(ReservationBulkRegisteredEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getReservations()).hasSize(16)
+                .allSatisfy(registered -> assertThat(registered.getReservationId()).isNotNull());
+    }
+
+    @Test
+    void givenOverlappingSlots_whenRegisterBulk_thenThrowException() {
+        // given - precondition or setup
+        ReservationCommand.BulkRegisterReservation bulkRequest = ReservationCommand.BulkRegisterReservation.builder()
+                .userId(user.getId())
+                .slots(List.of(
+                        new ReservationCommand.Slot("2022-11-03 06:30:00", "2022-11-03 08:30:00"),
+                        new ReservationCommand.Slot("2022-11-03 08:00:00", "2022-11-03 09:00:00")))
+                .build();
+
+        given(userGroupRepository.findMembershipContext(user.getId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
+
+        // when - action or the behaviour that we are going test
+        assertThatThrownBy(() -> reservationService.registerBulk(studyGroup.getId(), room.getId(), bulkRequest))
+                .isInstanceOf(WSApiException.class);
+
+        // then - verify the output
+        verify(reservationJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    void givenMalformedExplicitSlot_whenRegisterBulk_thenThrowInvalidRequest() {
+        // given - 형식이 틀린 시간, 값이 없는 시간
+        ReservationCommand.BulkRegisterReservation malformed = ReservationCommand.BulkRegisterReservation.builder()
+                .userId(user.getId())
+                .slots(List.of(new ReservationCommand.Slot("2022-11-03 6:30", "2022-11-03 08:30:00")))
+                .build();
+        ReservationCommand.BulkRegisterReservation missing = ReservationCommand.BulkRegisterReservation.builder()
+                .userId(user.getId())
+                .slots(List.of(new ReservationCommand.Slot("2022-11-03 06:30:00", null)))
+                .build();
+
+        // when, then - 500 이 아니라 INVALID_REQUEST
+        assertThatThrownBy(() -> reservationService.registerBulk(studyGroup.getId(), room.getId(), malformed))
+                .isInstanceOf(WSApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> reservationService.registerBulk(studyGroup.getId(), room.getId(), missing))
+                .isInstanceOf(WSApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        verify(roomLockManager, never()).executeInTransaction(anyLong(), any(), any());
+        verify(reservationJdbcRepository, never()).batchInsert(anyList());
+    }
+
     @Test
     public void givenRoomIdAndReservationToken_whenGetById_thenReturnThrowException() {
         // getById_ThrowsException
@@ -193,22 +300,28 @@ class ReservationServiceTest {
 //                .id(room.getId() + "||" + TimeParsingUtils.formatterString(sTime))
                 .room(room)
                 .user(user)
+                .studyGroup(studyGroup)
                 .startTime(LocalDateTime.of(2019, Month.OCTOBER, 3, 5, 30))
                 .endTime(LocalDateTime.of(2019, Month.OCTOBER, 3, 9, 30))
                 .build();
+        // 같은 일자 버킷이지만 조회 구간 밖
+        Reservation reservation2 = Reservation.builder()
+                .room(room)
+                .user(user)
+                .studyGroup(studyGroup)
+                .startTime(LocalDateTime.of(2019, Month.OCTOBER, 3, 9, 30))
+                .endTime(LocalDateTime.of(2019, Month.OCTOBER, 3, 11, 30))
+                .build();
 
-        given(roomRepository.findById(room.getId()))
-                .willReturn(Optional.of(room));
+        given(roomRepository.existsById(room.getId()))
+                .willReturn(true);
 
         String startTime = TimeParsingUtils.formatterString(sTime);
         String endTime = TimeParsingUtils.formatterString(eTime);
 
-        // parsing 작업 추가 String -> LocalDateTime
-        LocalDateTime parsingSTime = TimeParsingUtils.formatterLocalDateTime(startTime);
-        LocalDateTime parsingETime = TimeParsingUtils.formatterLocalDateTime(endTime);
-
-        given(reservationRepository.findByRoomIdAndTimePeriod(room.getId(), parsingSTime, parsingETime))
-                .willReturn(List.of(reservation, reservation1));
+        // 일자 버킷 (2019-10-03)
+        given(reservationDayBucketCache.get(room.getId(), sTime.toLocalDate()))
+                .willReturn(List.of(ReservationDetails.mapToDto(reservation1), ReservationDetails.mapToDto(reservation2)));
         // when - action or the behaviour that we are going test
         List<ReservationDetails> detailsList = reservationService.getByRoomIdAndTimePeriod(room.getId(), startTime, endTime);
         log.info("detailsList: {}", detailsList);
@@ -218,6 +331,27 @@ class ReservationServiceTest {
         assertThat(detailsList.size()).isEqualTo(1);
     }
 
+    @Test
+    void givenDayBuckets_whenGetFreeSlots_thenReturnComplementIncludingPreviousDay() {
+        // given - 전날 22:00 ~ 02:00, 당일 10:00 ~ 12:00 예약
+        given(roomRepository.existsById(room.getId())).willReturn(true);
+        given(reservationDayBucketCache.get(room.getId(), LocalDate.of(2022, Month.NOVEMBER, 2)))
+                .willReturn(List.of(details(LocalDateTime.of(2022, Month.NOVEMBER, 2, 22, 0),
+                        LocalDateTime.of(2022, Month.NOVEMBER, 3, 2, 0))));
+        given(reservationDayBucketCache.get(room.getId(), LocalDate.of(2022, Month.NOVEMBER, 3)))
+                .willReturn(List.of(details(LocalDateTime.of(2022, Month.NOVEMBER, 3, 10, 0),
+                        LocalDateTime.of(2022, Month.NOVEMBER, 3, 12, 0))));
+
+        // when
+        List<RoomFreeSlot> freeSlots = reservationService.getFreeSlots(room.getId(), "2022-11-03");
+
+        // then
+        assertThat(freeSlots).extracting(RoomFreeSlot::getStartTime)
+                .containsExactly("2022-11-03 02:00:00", "2022-11-03 12:00:00");
+        assertThat(freeSlots).extracting(RoomFreeSlot::getEndTime)
+                .containsExactly("2022-11-03 10:00:00", "2022-11-04 00:00:00");
+    }
+
     // TODO: NPE
     @Test
     void givenRoomId_whenGetAllById_thenReturnReservationDetailsList() {
@@ -282,28 +416,12 @@ class ReservationServiceTest {
                 .build();
 
         // validate
-        given(studyGroupRepository.findById(updateRequest.getStudyGroupId()))
-                .willReturn(Optional.of(studyGroup));
-        given(userGroupRepository.findUserTypeByUserIdAndSGId(updateRequest.getUserId(), studyGroup.getId()))
-                .willReturn(Optional.of(UserType.LEADER));
-
-        // update 로직 변경 : find -> new save -> old(reservation) delete
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
-        given(reservationRepository.findById(reservation.getId())).willReturn(Optional.of(reservation));
-        given(roomRepository.findById(room.getId())).willReturn(Optional.of(room));
-
-        Reservation newReservation = Reservation.builder()
-                .startTime(LocalDateTime.of(2022, Month.NOVEMBER, 3, 6, 30))
-                .endTime(LocalDateTime.of(2022, Month.NOVEMBER, 3, 7, 30))
-                .user(user)
-                .studyGroup(reservation.getStudyGroup())
-                .room(room)
-                .build();
+        given(userGroupRepository.findMembershipContext(updateRequest.getUserId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
 
-        given(reservationRepository.save(any(Reservation.class)))
-                .willReturn(newReservation);
-        // old reservation 제거
-        willDoNothing().given(reservationRepository).delete(reservation);
+        // update 로직 : find -> setter (dirty checking)
+        given(reservationRepository.findByReservationToken(reservation.getReservationToken()))
+                .willReturn(Optional.of(reservation));
 
         // when - action or the behaviour that we are going test
         String updateById = reservationService.updateByToken(room.getId(), reservation.getReservationToken(), updateRequest);
@@ -311,22 +429,62 @@ class ReservationServiceTest {
 
         // then - verify the output
         assertThat(updateById).isNotNull();
-        assertThat(updateById).isEqualTo(newReservation.getId());
+        assertThat(updateById).isEqualTo(reservation.getReservationToken());
+        assertThat(reservation.getStartTime()).isEqualTo(LocalDateTime.of(2022, Month.NOVEMBER, 3, 6, 30));
+    }
+
+    @Test
+    void givenDbOverlap_whenUpdate_thenThrowAndKeepTime() {
+        // given - 다른 인스턴스에서 등록된 겹치는 예약
+        updateRequest = ReservationCommand.UpdateReservation.builder()
+                .userId(user.getId())
+                .studyGroupId(studyGroup.getId())
+                .startTime("2022-11-03 06:30:00")
+                .endTime("2022-11-03 07:30:00")
+                .build();
+        given(userGroupRepository.findMembershipContext(updateRequest.getUserId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
+        given(reservationRepository.findByReservationToken(reservation.getReservationToken()))
+                .willReturn(Optional.of(reservation));
+        given(reservationRepository.existsOverlap(eq(room.getId()), any(), any(), eq(reservation.getReservationToken())))
+                .willReturn(true);
+
+        // when
+        assertThatThrownBy(() -> reservationService.updateByToken(room.getId(), reservation.getReservationToken(), updateRequest))
+                .isInstanceOf(WSApiException.class);
+
+        // then
+        assertThat(reservation.getStartTime()).isEqualTo(LocalDateTime.of(2019, Month.NOVEMBER, 3, 6, 30));
     }
 
     @Test
     void givenReservationToken_whenDelete_thenNothing() {
         // given - precondition or setup
-        given(userRepository.findById(user.getId()))
-                .willReturn(Optional.of(user));
-        given(reservationRepository.findById(reservation.getId()))
+        given(reservationRepository.findByTokenLock(reservation.getReservationToken()))
                 .willReturn(Optional.of(reservation));
+        given(userGroupRepository.findMembershipContext(user.getId(), studyGroup.getId(), room.getId()))
+                .willReturn(Optional.of(leaderContext()));
 
         // when - action or the behaviour that we are going test
         reservationService.deleteByToken(user.getId(), reservation.getReservationToken());
 
         // then - verify the output
-        verify(reservationRepository).delete(reservation);
+        verify(reservationRepository).deleteById(reservation.getId());
+
+    }
+
+    private ReservationDetails details(LocalDateTime startTime, LocalDateTime endTime) {
+        return ReservationDetails.mapToDto(Reservation.builder()
+                .user(user)
+                .studyGroup(studyGroup)
+                .room(room)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build());
+    }
 
+    private MembershipContext leaderContext() {
+        return new MembershipContext(user.getId(), user.getEmail(), studyGroup.getId(), studyGroup.getTitle(),
+                UserType.LEADER, room.getId(), room.getName());
     }
 }
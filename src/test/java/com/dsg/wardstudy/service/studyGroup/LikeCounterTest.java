@@ -0,0 +1,73 @@
+package com.dsg.wardstudy.service.studyGroup;
+
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupLikedEvent;
+import com.dsg.wardstudy.domain.studyGroup.service.LikeCounter;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCounterTest {
+
+    @Mock
+    private StudyGroupJdbcRepository studyGroupJdbcRepository;
+
+    @InjectMocks
+    private LikeCounter likeCounter;
+
+    @Test
+    void givenLikes_whenFlush_thenAddDeltasAndReset() {
+        likeCounter.onLiked(new StudyGroupLikedEvent(1L, 10L));
+        likeCounter.onLiked(new StudyGroupLikedEvent(1L, 11L));
+        likeCounter.onLiked(new StudyGroupLikedEvent(2L, 10L));
+        assertThat(likeCounter.pendingCount(1L)).isEqualTo(2L);
+
+        likeCounter.flush();
+
+        verify(studyGroupJdbcRepository).addLikeCounts(Map.of(1L, 2L, 2L, 1L));
+        assertThat(likeCounter.pendingCount(1L)).isZero();
+        assertThat(likeCounter.pendingCount(2L)).isZero();
+    }
+
+    @Test
+    void givenNoLikes_whenFlush_thenSkipUpdate() {
+        likeCounter.flush();
+
+        verify(studyGroupJdbcRepository, never()).addLikeCounts(anyMap());
+    }
+
+    @Test
+    void givenPendingLikes_whenRecount_thenFlushBeforeRecount() {
+        likeCounter.onLiked(new StudyGroupLikedEvent(1L, 10L));
+
+        likeCounter.recount();
+
+        InOrder inOrder = inOrder(studyGroupJdbcRepository);
+        inOrder.verify(studyGroupJdbcRepository).addLikeCounts(Map.of(1L, 1L));
+        inOrder.verify(studyGroupJdbcRepository).recountLikes();
+        assertThat(likeCounter.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void givenFlushFailure_whenFlush_thenKeepPendingDeltas() {
+        likeCounter.onLiked(new StudyGroupLikedEvent(1L, 10L));
+        willThrow(new RuntimeException("db down")).given(studyGroupJdbcRepository).addLikeCounts(anyMap());
+
+        likeCounter.flush();
+
+        assertThat(likeCounter.pendingCount(1L)).isEqualTo(1L);
+    }
+}
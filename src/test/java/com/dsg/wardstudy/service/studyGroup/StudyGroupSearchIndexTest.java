@@ -0,0 +1,111 @@
+package com.dsg.wardstudy.service.studyGroup;
+
+import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupDocument;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupChangedEvent;
+import com.dsg.wardstudy.domain.studyGroup.search.StudyGroupSearchIndex;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StudyGroupSearchIndexTest {
+
+    @Mock
+    private StudyGroupRepository studyGroupRepository;
+
+    @InjectMocks
+    private StudyGroupSearchIndex studyGroupSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(studyGroupRepository.findAllDocuments()).willReturn(List.of(
+                new StudyGroupDocument(1L, "자바 스터디", "스프링 부트 공부"),
+                new StudyGroupDocument(2L, "알고리즘 스터디", "자바로 문제 풀이"),
+                new StudyGroupDocument(3L, "Spring Batch", "배치 공부")
+        ));
+        studyGroupSearchIndex.load();
+    }
+
+    @Test
+    void givenKeyword_whenFindCandidates_thenSearchByType() {
+        assertThat(studyGroupSearchIndex.findCandidates("t", "자바")).containsExactly(1L);
+        assertThat(studyGroupSearchIndex.findCandidates("c", "자바")).containsExactly(2L);
+        assertThat(studyGroupSearchIndex.findCandidates("tc", "자바")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(studyGroupSearchIndex.findCandidates("t", "스터디")).containsExactlyInAnyOrder(1L, 2L);
+        // 대소문자 무시
+        assertThat(studyGroupSearchIndex.findCandidates("t", "spring")).containsExactly(3L);
+        // 한 글자
+        assertThat(studyGroupSearchIndex.findCandidates("c", "배")).containsExactly(3L);
+        assertThat(studyGroupSearchIndex.findCandidates("tc", "파이썬")).isEmpty();
+        assertThat(studyGroupSearchIndex.lastIndexedId()).isEqualTo(3L);
+        assertThat(studyGroupSearchIndex.indexedSince()).isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void givenNoKeyword_whenFindCandidates_thenReturnNull() {
+        assertThat(studyGroupSearchIndex.findCandidates(null, "자바")).isNull();
+        assertThat(studyGroupSearchIndex.findCandidates("t", " ")).isNull();
+    }
+
+    @Test
+    void givenTypeWithoutTitleOrContent_whenFindCandidates_thenReturnNull() {
+        // 제목/내용 조건이 없으면 전체 검색 (빈 후보로 좁히지 않음)
+        assertThat(studyGroupSearchIndex.findCandidates("w", "자바")).isNull();
+        assertThat(studyGroupSearchIndex.findCandidates("x", "없는검색어")).isNull();
+    }
+
+    @Test
+    void givenChangedEvent_whenOnStudyGroupChanged_thenIndexUpdated() {
+        // 1번 제목 수정
+        studyGroupSearchIndex.onStudyGroupChanged(event(StudyGroupChangedEvent.Type.UPDATED, 1L, "코틀린 스터디", "스프링 부트 공부"));
+        assertThat(studyGroupSearchIndex.findCandidates("t", "자바")).isEmpty();
+        assertThat(studyGroupSearchIndex.findCandidates("t", "코틀린")).containsExactly(1L);
+
+        // 4번 등록
+        studyGroupSearchIndex.onStudyGroupChanged(event(StudyGroupChangedEvent.Type.REGISTERED, 4L, "자바 심화", "JPA"));
+        assertThat(studyGroupSearchIndex.findCandidates("t", "자바")).containsExactly(4L);
+        // 기준값은 재적재로만 바뀐다 (다른 인스턴스가 넣은 id 를 건너뛰지 않도록)
+        assertThat(studyGroupSearchIndex.lastIndexedId()).isEqualTo(3L);
+
+        // 2번 삭제
+        studyGroupSearchIndex.onStudyGroupChanged(StudyGroupChangedEvent.of(StudyGroupChangedEvent.Type.DELETED, 2L, List.of()));
+        assertThat(studyGroupSearchIndex.findCandidates("c", "자바")).isEmpty();
+    }
+
+    @Test
+    void givenRowsFromOtherInstance_whenRebuild_thenAdvanceLastIndexedId() {
+        // given - 다른 인스턴스가 5번 등록, 이 인스턴스는 6번 등록 이벤트만 받음
+        studyGroupSearchIndex.onStudyGroupChanged(event(StudyGroupChangedEvent.Type.REGISTERED, 6L, "자바 입문", "기초"));
+        assertThat(studyGroupSearchIndex.lastIndexedId()).isEqualTo(3L);
+        given(studyGroupRepository.findAllDocuments()).willReturn(List.of(
+                new StudyGroupDocument(5L, "자바 실전", "프로젝트"),
+                new StudyGroupDocument(6L, "자바 입문", "기초")
+        ));
+
+        // when
+        studyGroupSearchIndex.rebuild();
+
+        // then
+        assertThat(studyGroupSearchIndex.findCandidates("t", "자바")).containsExactlyInAnyOrder(5L, 6L);
+        assertThat(studyGroupSearchIndex.lastIndexedId()).isEqualTo(6L);
+    }
+
+    private StudyGroupChangedEvent event(StudyGroupChangedEvent.Type type, Long id, String title, String content) {
+        return StudyGroupChangedEvent.builder()
+                .type(type)
+                .studyGroupId(id)
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
@@ -1,17 +1,30 @@
 package com.dsg.wardstudy.service.studyGroup;
 
+import com.dsg.wardstudy.domain.attach.dto.AttachDTO;
 import com.dsg.wardstudy.domain.reservation.entity.Reservation;
+import com.dsg.wardstudy.domain.reservation.entity.Room;
 import com.dsg.wardstudy.domain.studyGroup.entity.QStudyGroup;
 import com.dsg.wardstudy.domain.studyGroup.entity.StudyGroup;
+import com.dsg.wardstudy.domain.studyGroup.search.StudyGroupSearchIndex;
+import com.dsg.wardstudy.domain.studyGroup.event.StudyGroupLikedEvent;
+import com.dsg.wardstudy.domain.studyGroup.entity.Like;
+import com.dsg.wardstudy.domain.studyGroup.service.LikeCounter;
+import com.dsg.wardstudy.domain.studyGroup.service.StudyGroupCounter;
 import com.dsg.wardstudy.domain.studyGroup.service.StudyGroupServiceImpl;
+import com.dsg.wardstudy.domain.user.dto.MembershipContext;
 import com.dsg.wardstudy.domain.user.entity.User;
 import com.dsg.wardstudy.domain.user.entity.UserGroup;
 import com.dsg.wardstudy.domain.studyGroup.dto.PageResponse;
 import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupRequest;
 import com.dsg.wardstudy.domain.studyGroup.dto.StudyGroupResponse;
+import com.dsg.wardstudy.common.exception.ErrorCode;
 import com.dsg.wardstudy.common.exception.WSApiException;
+import com.dsg.wardstudy.repository.attach.AttachJdbcRepository;
+import com.dsg.wardstudy.repository.attach.AttachRepository;
+import com.dsg.wardstudy.repository.like.LikeRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationQueryRepository;
 import com.dsg.wardstudy.repository.reservation.ReservationRepository;
+import com.dsg.wardstudy.repository.studyGroup.StudyGroupQueryRepository;
 import com.dsg.wardstudy.repository.studyGroup.StudyGroupRepository;
 import com.dsg.wardstudy.repository.user.UserGroupRepository;
 import com.dsg.wardstudy.repository.user.UserRepository;
@@ -21,13 +34,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -36,8 +53,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @Slf4j
@@ -51,11 +72,30 @@ class StudyGroupServiceTest {
     @Mock
     private StudyGroupRepository studyGroupRepository;
     @Mock
+    private StudyGroupQueryRepository studyGroupQueryRepository;
+    @Mock
+    private StudyGroupCounter studyGroupCounter;
+    @Mock
+    private StudyGroupSearchIndex studyGroupSearchIndex;
+    @Mock
     private UserRepository userRepository;
 
     @Mock
     private UserGroupRepository userGroupRepository;
 
+    @Mock
+    private AttachRepository attachRepository;
+    @Mock
+    private AttachJdbcRepository attachJdbcRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private LikeCounter likeCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StudyGroupServiceImpl studyGroupService;
 
@@ -89,6 +129,7 @@ class StudyGroupServiceTest {
 //                .id("1||2019-11-03 06:30:00")
                 .user(user)
                 .studyGroup(studyGroup)
+                .room(Room.builder().id(1L).build())
                 .build();
 
     }
@@ -227,18 +268,56 @@ class StudyGroupServiceTest {
 
     }
 
+    @Test
+    public void givenCursor_whenGetAllByCursor_thenReturnNextCursorWithoutCount() {
+        // given - precondition or setup
+        List<StudyGroup> fetched = List.of(
+                StudyGroup.builder().id(9L).title("sg9").content("c9").build(),
+                StudyGroup.builder().id(8L).title("sg8").content("c8").build(),
+                StudyGroup.builder().id(7L).title("sg7").content("c7").build());
+        // size(2) + 1 건 조회
+        given(studyGroupQueryRepository.findByCursor(any(), eq(10L), eq(3)))
+                .willReturn(fetched);
+
+        // when - action or the behaviour that we are going test
+        PageResponse.StudyGroupCursor page = studyGroupService.getAllByCursor(10L, 2, null, null, false);
+
+        // then - verify the output
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getNextCursor()).isEqualTo(8L);
+        assertThat(page.isLast()).isFalse();
+        assertThat(page.getTotalElements()).isNull();
+        verify(studyGroupCounter, never()).count(any(), any(), any());
+        verify(studyGroupRepository, never()).count(any(BooleanBuilder.class));
+    }
+
+    @Test
+    public void givenLastCursor_whenGetAllByCursorWithCount_thenReturnLastPage() {
+        // given - precondition or setup
+        given(studyGroupQueryRepository.findByCursor(any(), eq(2L), eq(11)))
+                .willReturn(List.of(StudyGroup.builder().id(1L).title("sg1").content("c1").build()));
+        given(studyGroupCounter.count(eq("t"), anyString(), any()))
+                .willReturn(9L);
+
+        // when - action or the behaviour that we are going test
+        PageResponse.StudyGroupCursor page = studyGroupService.getAllByCursor(2L, 10, "t", "sg", true);
+
+        // then - verify the output
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isLast()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(9L);
+    }
+
     @Test
     public void givenStudyGroup_whenUpdate_thenReturnUpdatedStudyGroup() {
         // given - precondition or setup
-        given(userRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
+        given(userGroupRepository.findMembershipContext(anyLong(), anyLong(), isNull()))
+                .willReturn(Optional.of(leaderContext()));
 
         given(studyGroupRepository.findById(anyLong()))
                 .willReturn(Optional.of(studyGroup));
 
-        given(userGroupRepository.findUserTypeByUserIdAndSGId(anyLong(), anyLong()))
-                .willReturn(Optional.of(UserType.LEADER));
-
         studyGroupRequest = StudyGroupRequest.builder()
                 .title("JumpToSpringboot_study")
                 .content("JumpTo님이 진행하는 스터디")
@@ -256,6 +335,33 @@ class StudyGroupServiceTest {
 
     }
 
+    @Test
+    public void givenAttaches_whenUpdate_thenSyncOnlyDiff() {
+        // given - precondition or setup
+        given(userGroupRepository.findMembershipContext(anyLong(), anyLong(), isNull()))
+                .willReturn(Optional.of(leaderContext()));
+        given(studyGroupRepository.findById(anyLong()))
+                .willReturn(Optional.of(studyGroup));
+        given(attachRepository.findUuidsByStudyGroupId(studyGroup.getId()))
+                .willReturn(List.of("keep", "removed"));
+
+        studyGroupRequest = StudyGroupRequest.builder()
+                .title("JumpToSpringboot_study")
+                .content("JumpTo님이 진행하는 스터디")
+                .build();
+        studyGroupRequest.setAttachDTOS(List.of(attach("keep"), attach("new"), attach("new")));
+
+        // when - action or the behaviour that we are going test
+        studyGroupService.updateById(user.getId(), studyGroup.getId(), studyGroupRequest);
+
+        // then - verify the output
+        verify(attachRepository).deleteByStudyGroupIdAndUuidIn(studyGroup.getId(), List.of("removed"));
+        ArgumentCaptor<Collection<AttachDTO>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(attachJdbcRepository).batchInsert(eq(studyGroup.getId()), inserted.capture());
+        assertThat(inserted.getValue()).extracting(AttachDTO::getUuid).containsExactly("new");
+        verify(attachRepository, never()).save(any());
+    }
+
     @Test
     public void givenStudyGroupId_whenDelete_thenNothing() {
         // given - precondition or setup
@@ -265,11 +371,8 @@ class StudyGroupServiceTest {
         given(reservationQueryRepository.findByUserIdAndStudyGroupId(anyLong(), anyLong()))
                 .willReturn(Optional.ofNullable(reservation));
 
-        given(userRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-
-        given(userGroupRepository.findUserTypeByUserIdAndSGId(anyLong(), anyLong()))
-                .willReturn(Optional.of(UserType.LEADER));
+        given(userGroupRepository.findMembershipContext(anyLong(), anyLong(), isNull()))
+                .willReturn(Optional.of(leaderContext()));
 
         given(studyGroupRepository.findById(anyLong()))
                 .willReturn(Optional.of(studyGroup));
@@ -286,4 +389,97 @@ class StudyGroupServiceTest {
 
     }
 
+    @Test
+    public void givenParticipant_whenDelete_thenThrowsException() {
+        // given - precondition or setup
+        given(userGroupRepository.findMembershipContext(anyLong(), anyLong(), isNull()))
+                .willReturn(Optional.of(new MembershipContext(user.getId(), null, studyGroup.getId(),
+                        studyGroup.getTitle(), UserType.PARTICIPANT, null, null)));
+
+        // when - action or the behaviour that we are going test
+        assertThatThrownBy(() -> studyGroupService.deleteById(user.getId(), studyGroup.getId()))
+                .isInstanceOf(WSApiException.class);
+
+        // then - verify the output
+        verify(reservationRepository, never()).delete(any(Reservation.class));
+        verify(studyGroupRepository, never()).delete(any(StudyGroup.class));
+    }
+
+    @Test
+    public void givenAlreadyLiked_whenLike_thenThrowsException() {
+        // given - precondition or setup (유니크 제약 위반)
+        given(userRepository.getById(user.getId())).willReturn(user);
+        given(studyGroupRepository.getById(studyGroup.getId())).willReturn(studyGroup);
+        given(likeRepository.saveAndFlush(any(Like.class))).willThrow(new DataIntegrityViolationException(
+                "Duplicate entry '1-1' for key 'likes." + Like.UNIQUE_CONSTRAINT + "'"));
+
+        // when - action or the behaviour that we are going test
+        assertThatThrownBy(() -> studyGroupService.like(user.getId(), studyGroup.getId()))
+                .isInstanceOf(WSApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DUPLICATED_ENTITY);
+
+        // then - verify the output
+        verify(eventPublisher, never()).publishEvent(any(StudyGroupLikedEvent.class));
+    }
+
+    @Test
+    public void givenUnknownStudyGroup_whenLike_thenThrowsNotFound() {
+        // given - precondition or setup (FK 제약 위반)
+        given(userRepository.getById(user.getId())).willReturn(user);
+        given(studyGroupRepository.getById(99L)).willReturn(studyGroup);
+        given(likeRepository.saveAndFlush(any(Like.class))).willThrow(new DataIntegrityViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails"));
+
+        // when - action or the behaviour that we are going test
+        assertThatThrownBy(() -> studyGroupService.like(user.getId(), 99L))
+                .isInstanceOf(WSApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NO_FOUND_ENTITY);
+
+        // then - verify the output
+        verify(eventPublisher, never()).publishEvent(any(StudyGroupLikedEvent.class));
+    }
+
+    @Test
+    public void givenNotLiked_whenLike_thenInsertOnlyAndPublishEvent() {
+        // given - precondition or setup
+        given(userRepository.getById(user.getId())).willReturn(user);
+        given(studyGroupRepository.getById(studyGroup.getId())).willReturn(studyGroup);
+
+        // when - action or the behaviour that we are going test
+        studyGroupService.like(user.getId(), studyGroup.getId());
+
+        // then - verify the output (select 없이 insert 만)
+        verify(likeRepository).saveAndFlush(any(Like.class));
+        verify(userRepository, never()).findById(any());
+        verify(studyGroupRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(StudyGroupLikedEvent.class));
+    }
+
+    @Test
+    public void givenPendingLikes_whenLikeCount_thenAddToPersistedCount() {
+        // given - precondition or setup
+        given(studyGroupRepository.findById(studyGroup.getId())).willReturn(Optional.of(studyGroup));
+        given(likeCounter.pendingCount(studyGroup.getId())).willReturn(3L);
+
+        // when - action or the behaviour that we are going test
+        int likeCount = studyGroupService.likeCount(studyGroup.getId());
+
+        // then - verify the output
+        assertThat(likeCount).isEqualTo(3);
+    }
+
+    private AttachDTO attach(String uuid) {
+        return AttachDTO.builder()
+                .uuid(uuid)
+                .uploadPath("test-bucket")
+                .fileName(uuid + ".png")
+                .image(true)
+                .build();
+    }
+
+    private MembershipContext leaderContext() {
+        return new MembershipContext(user.getId(), null, studyGroup.getId(),
+                studyGroup.getTitle(), UserType.LEADER, null, null);
+    }
+
 }